@@ -0,0 +1,77 @@
+package com.nsmm.esg.authservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter.doFilterInternal 벤치마크 (Mock 요청/응답)
+ * - cacheMaxSize=0: 매 요청 서명 검증 (캐시 미스, 새 노드 또는 처음 보는 토큰)
+ * - cacheMaxSize=100000: 검증 결과 캐시 적중
+ * - 토큰 없는 요청은 파싱 없이 통과하는 경로의 기준값
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"0", "100000"})
+    long cacheMaxSize;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    // 다음 필터는 아무것도 하지 않음 (필터 자체 비용만 측정)
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = JwtBenchmarkSupport.tokenProvider(cacheMaxSize);
+        filter = new JwtAuthenticationFilter(tokenProvider);
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/auth/me");
+        authenticatedRequest.setServletPath("/auth/me");
+        authenticatedRequest.addHeader("Authorization", tokenProvider.createToken(42L));
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/auth/me");
+        anonymousRequest.setServletPath("/auth/me");
+
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication withToken() throws ServletException, IOException {
+        return filterOnce(authenticatedRequest);
+    }
+
+    @Benchmark
+    public Authentication withoutToken() throws ServletException, IOException {
+        return filterOnce(anonymousRequest);
+    }
+
+    // 요청 사이에 인증 정보가 남지 않도록 매번 정리 (Level.Invocation 픽스처 오버헤드 회피)
+    private Authentication filterOnce(MockHttpServletRequest request) throws ServletException, IOException {
+        try {
+            filter.doFilterInternal(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
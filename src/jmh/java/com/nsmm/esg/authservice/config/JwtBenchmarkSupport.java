@@ -0,0 +1,36 @@
+package com.nsmm.esg.authservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 벤치마크용 JwtTokenProvider 구성 (스프링 컨텍스트 없이 운영과 같은 경로로 생성)
+ * - 서명 키는 임시 ES256 키, 메트릭은 SimpleMeterRegistry
+ */
+final class JwtBenchmarkSupport {
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtTokenProvider tokenProvider(long cacheMaxSize) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setLegacyHmacEnabled(false);
+        properties.setAllowEphemeralKey(true);
+
+        JwtTokenProvider provider = new JwtTokenProvider(
+                new JwtTokenCache(cacheMaxSize, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)),
+                new JwtKeyRing(properties, new ObjectMapper()),
+                properties);
+        ReflectionTestUtils.setField(provider, "secretKeyEncoded", "");
+        ReflectionTestUtils.setField(provider, "expirationHours", 24L);
+        provider.init();
+        return provider;
+    }
+
+    // "Bearer " 접두사 제거
+    static String rawToken(String bearerToken) {
+        return bearerToken.substring(7);
+    }
+}
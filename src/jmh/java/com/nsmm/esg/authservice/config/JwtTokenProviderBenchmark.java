@@ -0,0 +1,52 @@
+package com.nsmm.esg.authservice.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 벤치마크 (ES256)
+ * - createToken: 로그인 응답 경로
+ * - validateToken, getMemberId: 캐시를 거치지 않는 서명 검증 경로
+ * - resolveMemberId: 필터가 사용하는 캐시 경로 (같은 토큰 반복, 적중 시)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = JwtBenchmarkSupport.tokenProvider(100_000);
+        token = JwtBenchmarkSupport.rawToken(tokenProvider.createToken(42L));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(42L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getMemberId() {
+        return tokenProvider.getMemberId(token);
+    }
+
+    @Benchmark
+    public Long resolveMemberIdCached() {
+        return tokenProvider.resolveMemberId(token);
+    }
+}
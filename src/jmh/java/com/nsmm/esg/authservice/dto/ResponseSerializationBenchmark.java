@@ -0,0 +1,57 @@
+package com.nsmm.esg.authservice.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO Jackson 직렬화 벤치마크
+ * - 스프링 부트 기본 ObjectMapper와 같이 등록된 모듈(JavaTimeModule 등)을 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MemberResponse memberResponse;
+    private LoginResponse loginResponse;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        memberResponse = new MemberResponse(42L, "홍길동", "gildong@example.com", "010-1234-5678",
+                "엔에스엠엠", "매니저", "https://bucket.s3.ap-northeast-2.amazonaws.com/profile-images/abc.png",
+                "https://bucket.s3.ap-northeast-2.amazonaws.com/profile-images/abc");
+        loginResponse = new LoginResponse("Bearer eyJhbGciOiJFUzI1NiIsImtpZCI6ImJlbmNoIn0."
+                + "eyJzdWIiOiI0MiIsImlhdCI6MTcwMDAwMDAwMCwiZXhwIjoxNzAwMDg2NDAwfQ.signature");
+        errorResponse = ErrorResponse.of("AUTH-004", "입력값이 유효하지 않습니다.", "/auth/register",
+                Map.of("email", "유효하지 않은 이메일 형식입니다."));
+    }
+
+    @Benchmark
+    public byte[] memberResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(memberResponse);
+    }
+
+    @Benchmark
+    public byte[] loginResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(loginResponse);
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
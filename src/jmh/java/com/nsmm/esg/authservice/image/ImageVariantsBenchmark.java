@@ -0,0 +1,78 @@
+package com.nsmm.esg.authservice.image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 이미지 파이프라인 단계별 벤치마크 (디코딩, 축소, 인코딩)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageVariantsBenchmark {
+
+    // 원본 한 변 크기 (px)
+    @Param({"1024", "4000"})
+    int sourceSize;
+
+    @Param({"png", "jpg"})
+    String format;
+
+    private byte[] encoded;
+    private BufferedImage decoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(sourceSize, sourceSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.BLUE, sourceSize, sourceSize, Color.ORANGE));
+        graphics.fillRect(0, 0, sourceSize, sourceSize);
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        encoded = output.toByteArray();
+        decoded = ImageVariants.decode(new ByteArrayInputStream(encoded));
+    }
+
+    @Benchmark
+    public BufferedImage decode() throws IOException {
+        return ImageVariants.decode(new ByteArrayInputStream(encoded));
+    }
+
+    @Benchmark
+    public BufferedImage resize512() {
+        return ImageVariants.resizeSquare(decoded, 512);
+    }
+
+    @Benchmark
+    public BufferedImage resize64() {
+        return ImageVariants.resizeSquare(decoded, 64);
+    }
+
+    @Benchmark
+    public byte[] fullPipeline() throws IOException {
+        BufferedImage source = ImageVariants.decode(new ByteArrayInputStream(encoded));
+        byte[] last = null;
+        for (int size : ImageVariants.SIZES) {
+            last = ImageVariants.encodeJpeg(ImageVariants.resizeSquare(source, size));
+        }
+        return last;
+    }
+}
@@ -0,0 +1,112 @@
+package com.nsmm.esg.authservice.repository;
+
+import com.nsmm.esg.authservice.dto.MemberSummary;
+import com.nsmm.esg.authservice.repository.MemberSearchRepository.SearchKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 검색 페이지 깊이별 벤치마크 (H2 MySQL 모드, 엔티티의 @Table 인덱스로 스키마 생성)
+ * - keyset: MemberSearchRepositoryImpl (직전 페이지 마지막 (이름, ID) 다음부터 조회)
+ * - offset: 같은 조건/정렬의 OFFSET 페이지 (비교 기준, 페이지가 깊어질수록 건너뛰는 행 수만큼 느려짐)
+ * - 회사 5곳에 회원을 고르게 배정하여 회사당 rows / 5 명, 페이지 크기 20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MemberSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int COMPANY_COUNT = 5;
+    private static final String COMPANY = "company-0";
+
+    @Param({"3000000"})
+    int rows;
+
+    @Param({"1", "10000"})
+    int page;
+
+    private SingleConnectionDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private MemberSearchRepositoryImpl repository;
+    private SearchKey after;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:search;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "", true);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.nsmm.esg.authservice.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        // 이름 순서가 ID 순서와 다르도록 섞어서 생성
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("insert into member (name, email, company_name, position, password) "
+                + "select 'member-' || lpad(mod(x * 7919, ?), 8, '0'), 'm' || x || '@example.com', "
+                + "'company-' || mod(x, ?), 'position-' || mod(x, 10), 'hash' "
+                + "from system_range(1, ?)", rows, COMPANY_COUNT, rows);
+        jdbcTemplate.execute("analyze");
+
+        if (page > 1) {
+            Map<String, Object> last = jdbcTemplate.queryForMap(
+                    "select name, id from member where company_name = ? order by name, id limit 1 offset ?",
+                    COMPANY, (long) (page - 1) * PAGE_SIZE - 1);
+            after = new SearchKey((String) last.get("name"), ((Number) last.get("id")).longValue());
+        }
+
+        entityManager = entityManagerFactory.createEntityManager();
+        repository = new MemberSearchRepositoryImpl(entityManager);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+        new JdbcTemplate(dataSource).execute("shutdown");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<MemberSummary> keyset() {
+        return repository.search(COMPANY, null, null, after, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<MemberSummary> offset() {
+        return entityManager.createQuery("select new com.nsmm.esg.authservice.dto.MemberSummary("
+                        + "m.id, m.name, m.companyName, m.position, m.profileImageUrl) from Member m "
+                        + "where m.companyName = :companyName order by m.name, m.id", MemberSummary.class)
+                .setParameter("companyName", COMPANY)
+                .setFirstResult((page - 1) * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+}
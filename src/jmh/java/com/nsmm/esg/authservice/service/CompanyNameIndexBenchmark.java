@@ -0,0 +1,77 @@
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.dto.CompanySuggestion;
+import com.nsmm.esg.authservice.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 회사명 자동완성 조회 벤치마크 (목표: 조회당 수 µs 이내)
+ * - companyCount: 인덱스의 회사 수, 접두어는 실제 회사명의 앞 1~4자
+ * - 4개 스레드가 동시에 조회 (읽기 잠금 공유)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class CompanyNameIndexBenchmark {
+
+    private static final String[] WORDS = {"그린", "에코", "한빛", "Green", "Eco", "Solar", "Carbon", "Hanil", "대한", "미래"};
+    private static final String[] SUFFIXES = {"에너지", "화학", "전자", "Energy", "Materials", "Logistics", "건설", "Holdings"};
+
+    @Param({"10000", "100000"})
+    int companyCount;
+
+    private CompanyNameIndex index;
+    private String[] prefixes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<CompanySuggestion> companies = IntStream.range(0, companyCount)
+                .mapToObj(i -> new CompanySuggestion(
+                        WORDS[random.nextInt(WORDS.length)] + " " + SUFFIXES[random.nextInt(SUFFIXES.length)] + " " + i,
+                        (long) 1 + random.nextInt(500)))
+                .toList();
+
+        // 회사명별 회원 수 스트리밍만 필요하므로 리포지토리는 프록시로 대체
+        MemberRepository repository = (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(), new Class<?>[] {MemberRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("streamCompanyCounts")) {
+                        return companies.stream();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        index = new CompanyNameIndex(repository, 10, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        index.build();
+
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = companies.get(random.nextInt(companies.size())).getCompanyName();
+            prefixes[i] = name.substring(0, Math.min(name.length(), 1 + random.nextInt(4)));
+        }
+    }
+
+    @Benchmark
+    public List<CompanySuggestion> suggest() {
+        return index.suggest(prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)], 10);
+    }
+}
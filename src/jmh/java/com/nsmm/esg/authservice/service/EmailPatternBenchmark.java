@@ -0,0 +1,35 @@
+package com.nsmm.esg.authservice.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 이메일 형식 검사 벤치마크
+ * - stringMatches: 이전 방식 (String.matches, 호출마다 Pattern 컴파일)
+ * - precompiled: MemberService.EMAIL_PATTERN 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailPatternBenchmark {
+
+    @Param({"user@example.com", "first.last+esg-report@subsidiary.company-name.co.kr", "not-an-email"})
+    String email;
+
+    @Benchmark
+    public boolean stringMatches() {
+        return email.matches(MemberService.EMAIL_PATTERN.pattern());
+    }
+
+    @Benchmark
+    public boolean precompiled() {
+        return MemberService.EMAIL_PATTERN.matcher(email).matches();
+    }
+}
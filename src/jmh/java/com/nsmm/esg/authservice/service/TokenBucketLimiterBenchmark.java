@@ -0,0 +1,47 @@
+package com.nsmm.esg.authservice.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한 토큰 버킷 벤치마크 (목표: 요청당 1µs 미만)
+ * - keyCount: 활성 키 수 (16: 같은 stripe 경합, 1000: 버킷 재사용, 100000: 최대 키 수(10000) 초과로 버킷 생성/제거 포함)
+ * - 8개 스레드가 동시에 호출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class TokenBucketLimiterBenchmark {
+
+    @Param({"16", "1000", "100000"})
+    int keyCount;
+
+    private TokenBucketLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketLimiter(10, 10, 10_000, 900, 64);
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "user" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        return limiter.tryAcquire(key, System.nanoTime());
+    }
+}
@@ -0,0 +1,90 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 구간 동안 Hikari 커넥션 풀 사용량 샘플링
+ * - hikaricp.connections.active / pending / max 게이지를 주기적으로 읽어 최대값과 포화 비율 집계
+ * - 포화: 커넥션을 기다리는 스레드가 있는 상태 (pending > 0)
+ */
+public class ConnectionPoolSampler implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 50;
+
+    private final MeterRegistry registry;
+    private final ScheduledExecutorService scheduler;
+
+    private long samples;
+    private long saturatedSamples;
+    private double peakActive;
+    private double peakPending;
+    private double maxConnections;
+
+    public ConnectionPoolSampler(MeterRegistry registry) {
+        this.registry = registry;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-pool-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        double active = sum("hikaricp.connections.active");
+        double pending = sum("hikaricp.connections.pending");
+        samples++;
+        if (pending > 0) {
+            saturatedSamples++;
+        }
+        peakActive = Math.max(peakActive, active);
+        peakPending = Math.max(peakPending, pending);
+        maxConnections = Math.max(maxConnections, sum("hikaricp.connections.max"));
+    }
+
+    // 복제본 라우팅 사용 시 풀이 여러 개이므로 전체 합계
+    private double sum(String name) {
+        return Search.in(registry).name(name).gauges().stream()
+                .mapToDouble(gauge -> gauge.value())
+                .filter(value -> !Double.isNaN(value))
+                .sum();
+    }
+
+    /**
+     * 커넥션 대기가 있었던 샘플 비율 (0 ~ 1)
+     */
+    public synchronized double saturation() {
+        return samples == 0 ? 0 : (double) saturatedSamples / samples;
+    }
+
+    public synchronized String describe() {
+        return String.format(Locale.ROOT, "커넥션 풀: 최대 활성 %.0f/%.0f, 최대 대기 %.0f, 포화 비율 %.1f%% (샘플 %d개)",
+                peakActive, maxConnections, peakPending, saturation() * 100, samples);
+    }
+
+    /**
+     * 요약 보고서용 항목 (pool.*)
+     */
+    public synchronized Properties summary() {
+        Properties summary = new Properties();
+        summary.setProperty("pool.peak-active", String.format(Locale.ROOT, "%.0f", peakActive));
+        summary.setProperty("pool.peak-pending", String.format(Locale.ROOT, "%.0f", peakPending));
+        summary.setProperty("pool.saturation", String.format(Locale.ROOT, "%.4f", saturation()));
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
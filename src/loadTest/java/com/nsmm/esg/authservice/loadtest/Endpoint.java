@@ -0,0 +1,30 @@
+package com.nsmm.esg.authservice.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트 (loadtest.mix 에서 사용하는 이름)
+ */
+public enum Endpoint {
+    REGISTER("register"),
+    LOGIN("login"),
+    ME("me"),
+    PROFILE_IMAGE("profile-image");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + key);
+    }
+}
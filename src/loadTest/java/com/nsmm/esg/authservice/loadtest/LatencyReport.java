@@ -0,0 +1,141 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 결과 보고서와 기준선 비교
+ * - report.txt: 엔드포인트별 처리량, p50/p99/p999/max, 오류/drop 수, 커넥션 풀 사용량
+ * - {endpoint}.hgrm: 분위수 분포 (HdrHistogram plotter 입력 형식)
+ * - summary.properties: 기준선과 같은 형식의 요약 ({endpoint}.p50 등, 단위 ms, 풀 사용량은 pool.*)
+ */
+public class LatencyReport {
+
+    private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+    private static final String[] PERCENTILE_KEYS = {"p50", "p99", "p999"};
+
+    // 기준선 비교 대상 분위수 (p999는 실행마다 편차가 커서 보고만 함)
+    private static final String[] CHECKED_KEYS = {"p50", "p99"};
+
+    private final OpenModelLoadGenerator.Result result;
+    private final ConnectionPoolSampler pool;
+    private final String description;
+
+    public LatencyReport(OpenModelLoadGenerator.Result result, ConnectionPoolSampler pool, String description) {
+        this.result = result;
+        this.pool = pool;
+        this.description = description;
+    }
+
+    public void write(Path reportDir, PrintStream console) throws IOException {
+        Files.createDirectories(reportDir);
+        StringBuilder table = new StringBuilder();
+        table.append(description).append('\n');
+        table.append(String.format("%-14s %10s %10s %10s %10s %10s %10s %8s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors", "dropped"));
+
+        double elapsedSeconds = result.elapsedNanos / 1e9;
+        for (Map.Entry<Endpoint, Histogram> entry : result.histograms.entrySet()) {
+            Endpoint endpoint = entry.getKey();
+            Histogram histogram = entry.getValue();
+            table.append(String.format("%-14s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d %8d%n",
+                    endpoint.key(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / elapsedSeconds,
+                    millis(histogram.getValueAtPercentile(50.0)),
+                    millis(histogram.getValueAtPercentile(99.0)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    result.errors.get(endpoint).sum(),
+                    result.dropped.get(endpoint).sum()));
+
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(reportDir.resolve(endpoint.key() + ".hgrm")), true, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1000.0); // µs → ms
+            }
+        }
+
+        table.append(pool.describe()).append('\n');
+
+        console.print(table);
+        Files.writeString(reportDir.resolve("report.txt"), table, StandardCharsets.UTF_8);
+        store(summary(), reportDir.resolve("summary.properties"));
+    }
+
+    /**
+     * 엔드포인트별 분위수 요약 (ms)와 커넥션 풀 사용량
+     */
+    public Properties summary() {
+        Properties summary = pool.summary();
+        for (Map.Entry<Endpoint, Histogram> entry : result.histograms.entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                double value = millis(entry.getValue().getValueAtPercentile(PERCENTILES[i]));
+                summary.setProperty(entry.getKey().key() + "." + PERCENTILE_KEYS[i], String.format(Locale.ROOT, "%.2f", value));
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * 기준선 대비 회귀 검사
+     * @param tolerance 허용 증가율 (0.2 = 20%)
+     * @return 허용 범위를 넘은 항목 목록, 없으면 빈 목록
+     */
+    public List<String> checkAgainst(Properties baseline, double tolerance) {
+        Properties current = summary();
+        List<String> regressions = new ArrayList<>();
+        for (Endpoint endpoint : result.histograms.keySet()) {
+            for (String percentile : CHECKED_KEYS) {
+                String key = endpoint.key() + "." + percentile;
+                String expected = baseline.getProperty(key);
+                String actual = current.getProperty(key);
+                if (expected == null || actual == null) {
+                    continue;
+                }
+                double limit = Double.parseDouble(expected) * (1 + tolerance);
+                if (Double.parseDouble(actual) > limit) {
+                    regressions.add(String.format("%s: %sms > 기준선 %sms (+%.0f%% 허용)",
+                            key, actual, expected, tolerance * 100));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    public static Properties load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    public static void store(Properties properties, Path path) throws IOException {
+        // 키 순서를 고정하여 기준선 파일 diff를 읽기 쉽게 유지
+        StringBuilder content = new StringBuilder();
+        new TreeMap<>(properties).forEach((key, value) -> content.append(key).append('=').append(value).append('\n'));
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(content.toString());
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
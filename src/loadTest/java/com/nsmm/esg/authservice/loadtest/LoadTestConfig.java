@@ -0,0 +1,37 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 전용 빈 (loadtest 프로필)
+ * - AwsConfig의 S3 클라이언트 대신 로컬 파일 저장소 기반 클라이언트를 우선 주입
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Bean
+    public LocalObjectStore localObjectStore(@Value("${loadtest.storage-dir:build/loadtest/s3}") String storageDir) {
+        return new LocalObjectStore(Path.of(storageDir).toAbsolutePath());
+    }
+
+    @Bean
+    @Primary
+    public S3Client localS3Client(LocalObjectStore localObjectStore) {
+        return new LocalS3Client(localObjectStore);
+    }
+
+    @Bean
+    @Primary
+    public S3AsyncClient localS3AsyncClient(LocalObjectStore localObjectStore) {
+        return new LocalS3AsyncClient(localObjectStore);
+    }
+}
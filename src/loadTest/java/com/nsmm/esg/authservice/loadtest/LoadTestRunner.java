@@ -0,0 +1,130 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.authservice.AuthServiceApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 종단 간 부하 테스트 진입점 (./gradlew loadTest)
+ * - loadtest 프로필로 서비스를 같은 JVM에서 기동 (H2 MySQL 모드, 로컬 파일 S3, config/eureka 비활성화)
+ * - 사전 회원 준비 → 워밍업 → 측정 → 보고서 작성 → 기준선 비교 순으로 실행
+ * - 기준선 대비 회귀가 있으면 종료 코드 1 (Gradle 태스크 실패)
+ *
+ * 설정 (시스템 프로퍼티, Gradle 에서는 -Ploadtest.xxx):
+ * - loadtest.rate: 초당 요청 수 (기본 100)
+ * - loadtest.duration-seconds / loadtest.warmup-seconds: 측정/워밍업 시간 (기본 60 / 15)
+ * - loadtest.mix: 엔드포인트별 비율 (기본 register=1,login=3,me=10,profile-image=1)
+ * - loadtest.users: 사전 가입 회원 수 (기본 200)
+ * - loadtest.max-in-flight: 동시 요청 상한 (기본 1000)
+ * - loadtest.virtual-threads: 요청 처리 가상 스레드 사용 여부 (기본 false)
+ * - loadtest.tolerance: 기준선 대비 허용 증가율 (기본 0.2)
+ * - loadtest.max-pool-saturation: 커넥션 대기가 있었던 샘플의 허용 비율 (기본 0.01, 넘으면 실패)
+ * - loadtest.update-baseline: true 이면 이번 결과로 기준선 갱신
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "100"));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15));
+        Map<Endpoint, Integer> mix = parseMix(System.getProperty("loadtest.mix", "register=1,login=3,me=10,profile-image=1"));
+        int users = Integer.getInteger("loadtest.users", 200);
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 1000);
+        int imageVariety = Integer.getInteger("loadtest.image-variety", 64);
+        boolean virtualThreads = Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false"));
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2"));
+        double maxPoolSaturation = Double.parseDouble(System.getProperty("loadtest.max-pool-saturation", "0.01"));
+        boolean updateBaseline = Boolean.parseBoolean(System.getProperty("loadtest.update-baseline", "false"));
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        Path baselinePath = Path.of(System.getProperty("loadtest.baseline", "src/loadTest/baseline.properties"));
+
+        SpringApplication application = new SpringApplication(AuthServiceApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        ConfigurableApplicationContext context = application.run(
+                "--spring.threads.virtual.enabled=" + virtualThreads);
+
+        int exitCode;
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             ConnectionPoolSampler pool = new ConnectionPoolSampler(context.getBean(MeterRegistry.class))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            LoadTestScenario scenario = new LoadTestScenario(httpClient, new ObjectMapper(), "http://localhost:" + port);
+            scenario.prepare(users, imageVariety);
+
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(httpClient, scenario, mix, maxInFlight);
+            generator.run(rate, warmup);
+            pool.start();
+            OpenModelLoadGenerator.Result result = generator.run(rate, duration);
+            pool.close();
+
+            String description = String.format("부하 테스트 결과: %.0f req/s, %ds, 비율=%s, 가상 스레드=%s",
+                    rate, duration.toSeconds(), mix, virtualThreads);
+            LatencyReport report = new LatencyReport(result, pool, description);
+            report.write(reportDir, System.out);
+            exitCode = compareWithBaseline(report, baselinePath, tolerance, updateBaseline);
+            if (pool.saturation() > maxPoolSaturation) {
+                System.out.printf("커넥션 풀 포화: 대기 샘플 비율 %.1f%% > 허용 %.1f%%%n",
+                        pool.saturation() * 100, maxPoolSaturation * 100);
+                exitCode = 1;
+            }
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static int compareWithBaseline(LatencyReport report, Path baselinePath,
+                                           double tolerance, boolean updateBaseline) throws Exception {
+        if (updateBaseline) {
+            LatencyReport.store(report.summary(), baselinePath);
+            System.out.println("기준선 갱신: " + baselinePath);
+            return 0;
+        }
+        if (!Files.exists(baselinePath)) {
+            System.out.println("기준선 파일이 없어 회귀 검사를 건너뜁니다: " + baselinePath);
+            return 0;
+        }
+
+        List<String> regressions = report.checkAgainst(LatencyReport.load(baselinePath), tolerance);
+        if (regressions.isEmpty()) {
+            System.out.println("기준선 대비 회귀 없음");
+            return 0;
+        }
+        System.out.println("기준선 대비 지연 회귀:");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        return 1;
+    }
+
+    // "register=1,login=3" → {REGISTER=1, LOGIN=3}
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.fromKey(pair[0].trim()), weight);
+            }
+        }
+        return mix;
+    }
+}
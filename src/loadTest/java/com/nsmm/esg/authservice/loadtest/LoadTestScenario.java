@@ -0,0 +1,176 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 요청 생성
+ * - 시작 전에 회원을 미리 가입/로그인시켜 login, me, profile-image 요청에 사용
+ *   (가입/로그인 모두 비밀번호 해시 풀을 거치므로 동시 요청 수를 해시 대기열보다 작게 제한하여 503 방지)
+ * - register는 매번 새 이메일, profile-image는 미리 만든 이미지 묶음에서 무작위 선택
+ *   (같은 이미지가 반복되므로 내용 기반 중복 제거 경로도 함께 측정)
+ */
+public class LoadTestScenario {
+
+    static final String PASSWORD = "loadtest-password-1234";
+    private static final String BOUNDARY = "loadtest-boundary-" + UUID.randomUUID();
+
+    // 사전 준비 동시 요청 수 (auth.hashing.queue-capacity 기본값 64 보다 작게)
+    private static final int PREPARE_CONCURRENCY = 32;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong registerSequence = new AtomicLong();
+
+    private final List<String> emails = new ArrayList<>();
+    private final List<String> tokens = new ArrayList<>();
+    private final List<byte[]> imageBodies = new ArrayList<>();
+
+    public LoadTestScenario(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * 사전 회원 가입, 로그인 및 업로드 이미지 생성
+     */
+    public void prepare(int users, int imageVariety) {
+        List<HttpRequest> registrations = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String email = "seed-" + runId + "-" + i + "@loadtest.local";
+            emails.add(email);
+            registrations.add(registerRequest(email));
+        }
+        sendThrottled(registrations).forEach(registration -> expectOk(registration.join()));
+
+        List<HttpRequest> logins = new ArrayList<>();
+        for (String email : emails) {
+            logins.add(loginRequest(email));
+        }
+        for (CompletableFuture<HttpResponse<String>> login : sendThrottled(logins)) {
+            tokens.add(readToken(expectOk(login.join())));
+        }
+
+        for (int i = 0; i < imageVariety; i++) {
+            imageBodies.add(multipartBody(pngImage(i)));
+        }
+    }
+
+    public HttpRequest next(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case REGISTER -> registerRequest("user-" + runId + "-" + registerSequence.incrementAndGet() + "@loadtest.local");
+            case LOGIN -> loginRequest(emails.get(random.nextInt(emails.size())));
+            case ME -> HttpRequest.newBuilder(URI.create(baseUrl + "/auth/me"))
+                    .header("Authorization", tokens.get(random.nextInt(tokens.size())))
+                    .GET()
+                    .build();
+            case PROFILE_IMAGE -> HttpRequest.newBuilder(URI.create(baseUrl + "/auth/profile-image"))
+                    .header("Authorization", tokens.get(random.nextInt(tokens.size())))
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(imageBodies.get(random.nextInt(imageBodies.size()))))
+                    .build();
+        };
+    }
+
+    /**
+     * 동시 요청 수를 PREPARE_CONCURRENCY 로 제한하여 전송 (응답 순서는 요청 순서와 같음)
+     */
+    private List<CompletableFuture<HttpResponse<String>>> sendThrottled(List<HttpRequest> requests) {
+        Semaphore permits = new Semaphore(PREPARE_CONCURRENCY);
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(requests.size());
+        for (HttpRequest request : requests) {
+            permits.acquireUninterruptibly();
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> permits.release()));
+        }
+        return responses;
+    }
+
+    private HttpRequest registerRequest(String email) {
+        return jsonPost("/auth/register", "{\"name\":\"부하테스트\",\"email\":\"" + email
+                + "\",\"password\":\"" + PASSWORD + "\",\"companyName\":\"loadtest\"}");
+    }
+
+    private HttpRequest loginRequest(String email) {
+        return jsonPost("/auth/login", "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+    }
+
+    private HttpRequest jsonPost(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private String readToken(HttpResponse<String> response) {
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            return body.get("token").asText();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HttpResponse<String> expectOk(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("사전 준비 요청 실패: " + response.uri()
+                    + " status=" + response.statusCode() + " body=" + response.body());
+        }
+        return response;
+    }
+
+    // 시드마다 색이 다른 256x256 PNG
+    private static byte[] pngImage(int seed) {
+        BufferedImage image = new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(Color.HSBtoRGB(seed / 64f, 0.6f, 0.9f)));
+        graphics.fillRect(0, 0, 256, 256);
+        graphics.setColor(Color.WHITE);
+        graphics.drawString("loadtest " + seed, 16, 128);
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] multipartBody(byte[] png) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] head = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"profile.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        body.writeBytes(head);
+        body.writeBytes(png);
+        body.writeBytes(tail);
+        return body.toByteArray();
+    }
+}
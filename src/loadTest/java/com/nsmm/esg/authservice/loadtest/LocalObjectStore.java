@@ -0,0 +1,87 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 파일 시스템 객체 저장소 (부하 테스트용 S3 대체)
+ * - 객체 본문은 root/{key} 파일로, 콘텐츠 타입은 메모리에 보관
+ * - 버킷 구분 없이 하나의 루트 디렉터리 사용
+ */
+public class LocalObjectStore {
+
+    private final Path root;
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+
+    public LocalObjectStore(Path root) {
+        this.root = root;
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void put(String key, byte[] content, String contentType) {
+        Path path = resolve(key);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        contentTypes.put(key, contentType != null ? contentType : "application/octet-stream");
+    }
+
+    /**
+     * @return 객체가 없으면 null
+     */
+    public byte[] get(String key) {
+        Path path = resolve(key);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return 객체 크기, 없으면 -1
+     */
+    public long size(String key) {
+        Path path = resolve(key);
+        try {
+            return Files.exists(path) ? Files.size(path) : -1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String contentType(String key) {
+        return contentTypes.get(key);
+    }
+
+    public void delete(String key) {
+        contentTypes.remove(key);
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 객체 키입니다: " + key);
+        }
+        return path;
+    }
+}
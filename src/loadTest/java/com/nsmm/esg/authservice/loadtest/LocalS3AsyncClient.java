@@ -0,0 +1,70 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로컬 파일 저장소 기반 S3AsyncClient (FileStorageService.storeAsync가 사용하는 putObject만 구현)
+ * - 요청 본문 Publisher를 끝까지 구독하여 모은 뒤 저장
+ */
+public class LocalS3AsyncClient implements S3AsyncClient {
+
+    private final LocalObjectStore store;
+
+    public LocalS3AsyncClient(LocalObjectStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody requestBody) {
+        CompletableFuture<PutObjectResponse> future = new CompletableFuture<>();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        requestBody.subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buffer) {
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                content.write(chunk, 0, chunk.length);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                try {
+                    store.put(request.key(), content.toByteArray(), request.contentType());
+                    future.complete(PutObjectResponse.builder().build());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
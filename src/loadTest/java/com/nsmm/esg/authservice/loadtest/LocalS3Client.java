@@ -0,0 +1,119 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 파일 저장소 기반 S3Client (FileStorageService가 사용하는 put/get/head/delete만 구현)
+ */
+public class LocalS3Client implements S3Client {
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    private final LocalObjectStore store;
+
+    public LocalS3Client(LocalObjectStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        try (InputStream inputStream = requestBody.contentStreamProvider().newStream()) {
+            store.put(request.key(), inputStream.readAllBytes(), request.contentType());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        long size = store.size(request.key());
+        if (size < 0) {
+            throw noSuchKey(request.key());
+        }
+        return HeadObjectResponse.builder()
+                .contentLength(size)
+                .contentType(store.contentType(request.key()))
+                .build();
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request,
+                                       ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        byte[] content = store.get(request.key());
+        if (content == null) {
+            throw noSuchKey(request.key());
+        }
+        content = applyRange(content, request.range());
+
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentLength((long) content.length)
+                .contentType(store.contentType(request.key()))
+                .build();
+        try {
+            return responseTransformer.transform(response,
+                    AbortableInputStream.create(new ByteArrayInputStream(content)));
+        } catch (Exception e) {
+            throw SdkClientException.create("로컬 객체 읽기 실패: " + request.key(), e);
+        }
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        store.delete(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // "bytes=start-end" 범위 요청 처리 (end 포함)
+    private static byte[] applyRange(byte[] content, String range) {
+        if (range == null) {
+            return content;
+        }
+        Matcher matcher = RANGE.matcher(range);
+        if (!matcher.matches()) {
+            return content;
+        }
+        int start = (int) Math.min(Long.parseLong(matcher.group(1)), content.length);
+        int end = matcher.group(2).isEmpty()
+                ? content.length
+                : (int) Math.min(Long.parseLong(matcher.group(2)) + 1, content.length);
+        return Arrays.copyOfRange(content, start, Math.max(start, end));
+    }
+
+    private static NoSuchKeyException noSuchKey(String key) {
+        return (NoSuchKeyException) NoSuchKeyException.builder()
+                .message("The specified key does not exist: " + key)
+                .statusCode(404)
+                .build();
+    }
+}
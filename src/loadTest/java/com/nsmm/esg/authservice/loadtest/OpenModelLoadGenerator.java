@@ -0,0 +1,127 @@
+package com.nsmm.esg.authservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-model) 부하 생성기
+ * - 응답 여부와 무관하게 정해진 도착률로 요청을 보냄 (지수 분포 도착 간격)
+ * - 지연은 실제 전송 시각이 아니라 예정 도착 시각부터 측정하여 coordinated omission 보정
+ * - 동시 요청이 maxInFlight에 도달하면 요청을 보내지 않고 drop으로 집계 (서버 포화 지표)
+ */
+public class OpenModelLoadGenerator {
+
+    // 지연 기록 범위: 1µs ~ 60s, 유효숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final HttpClient httpClient;
+    private final LoadTestScenario scenario;
+    private final Map<Endpoint, Integer> mix;
+    private final int totalWeight;
+    private final int maxInFlight;
+
+    public OpenModelLoadGenerator(HttpClient httpClient, LoadTestScenario scenario,
+                                  Map<Endpoint, Integer> mix, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.scenario = scenario;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.maxInFlight = maxInFlight;
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("요청 비율(loadtest.mix)이 비어 있습니다.");
+        }
+    }
+
+    /**
+     * @param ratePerSecond 초당 평균 도착 요청 수
+     * @param duration 실행 시간
+     */
+    public Result run(double ratePerSecond, Duration duration) throws InterruptedException {
+        Result result = new Result(mix.keySet());
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intended = start;
+
+        while (intended < end) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+
+            Endpoint endpoint = pick();
+            long scheduledAt = intended;
+            intended += nextInterval(meanIntervalNanos);
+
+            if (!inFlight.tryAcquire()) {
+                result.dropped.get(endpoint).increment();
+                continue;
+            }
+            httpClient.sendAsync(scenario.next(endpoint), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt);
+                        if (error == null && response.statusCode() < 400) {
+                            result.histograms.get(endpoint).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                        } else {
+                            result.errors.get(endpoint).increment();
+                        }
+                        inFlight.release();
+                    });
+        }
+
+        // 진행 중인 요청 완료 대기
+        if (!inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("60초 안에 완료되지 않은 요청이 있습니다.");
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private Endpoint pick() {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    // 포아송 도착 과정의 도착 간격
+    private static long nextInterval(double meanIntervalNanos) {
+        return (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos);
+    }
+
+    /**
+     * 엔드포인트별 지연 히스토그램(µs), 오류 수, drop 수
+     */
+    public static class Result {
+
+        final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+        final Map<Endpoint, LongAdder> dropped = new EnumMap<>(Endpoint.class);
+        long elapsedNanos;
+
+        Result(Iterable<Endpoint> endpoints) {
+            for (Endpoint endpoint : endpoints) {
+                histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+                errors.put(endpoint, new LongAdder());
+                dropped.put(endpoint, new LongAdder());
+            }
+        }
+    }
+}
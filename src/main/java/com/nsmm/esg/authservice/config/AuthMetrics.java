@@ -0,0 +1,129 @@
+/**
+ * 인증 서비스 메트릭
+ * - 작업(로그인, 회원가입, 비밀번호 변경, 프로필 이미지 변경)별 성공 수, 원인별 실패 수
+ * - 작업 단계(DB 조회, 해시, 토큰 서명, S3 업로드 등)별 지연 Timer (SLO 버킷 히스토그램)
+ * - 모든 미터는 기동 시 한 번 등록, 요청 경로에서는 조회와 기록만 수행 (태그 배열 생성 없음)
+ */
+package com.nsmm.esg.authservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AuthMetrics {
+
+    // 단계별 지연 SLO 버킷 (BCrypt 한 번이 수백 ms이므로 상단 버킷을 넉넉하게)
+    private static final Duration[] PHASE_SLOS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofMillis(2500)
+    };
+
+    private final MeterRegistry registry;
+    private final Map<Operation, Counter> successCounters = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Class<?>, Counter>> failureCounters = new EnumMap<>(Operation.class);
+    private final Map<Phase, Timer> phaseTimers = new EnumMap<>(Phase.class);
+
+    public AuthMetrics(ObjectProvider<MeterRegistry> registryProvider) {
+        this.registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+
+        for (Operation operation : Operation.values()) {
+            successCounters.put(operation, Counter.builder(operation.metricPrefix + ".success")
+                    .description(operation.description + " 성공 수")
+                    .register(registry));
+            failureCounters.put(operation, new ConcurrentHashMap<>());
+        }
+        for (Phase phase : Phase.values()) {
+            phaseTimers.put(phase, Timer.builder("auth.phase.duration")
+                    .description("작업 단계별 소요 시간")
+                    .tag("operation", phase.operation.tagValue)
+                    .tag("phase", phase.tagValue)
+                    .serviceLevelObjectives(PHASE_SLOS)
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 단계 소요 시간 기록
+     * @param startNanos 단계 시작 시각 (System.nanoTime())
+     */
+    public void record(Phase phase, long startNanos) {
+        phaseTimers.get(phase).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void success(Operation operation) {
+        successCounters.get(operation).increment();
+    }
+
+    /**
+     * 실패 수 증가 (reason 태그 = 예외 클래스명)
+     * - 예외 타입별 카운터는 처음 발생할 때 한 번만 등록
+     */
+    public void failure(Operation operation, Throwable cause) {
+        failureCounters.get(operation)
+                .computeIfAbsent(cause.getClass(), type -> Counter.builder(operation.metricPrefix + ".failure")
+                        .description(operation.description + " 실패 수")
+                        .tag("reason", type.getSimpleName())
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * 측정 대상 작업
+     */
+    public enum Operation {
+        LOGIN("auth.login", "login", "로그인"),
+        REGISTER("auth.register", "register", "회원가입"),
+        CHANGE_PASSWORD("auth.password.change", "change_password", "비밀번호 변경"),
+        UPDATE_PROFILE_IMAGE("auth.profile.image", "update_profile_image", "프로필 이미지 변경");
+
+        private final String metricPrefix;
+        private final String tagValue;
+        private final String description;
+
+        Operation(String metricPrefix, String tagValue, String description) {
+            this.metricPrefix = metricPrefix;
+            this.tagValue = tagValue;
+            this.description = description;
+        }
+    }
+
+    /**
+     * 작업 단계 (auth.phase.duration 의 operation, phase 태그)
+     */
+    public enum Phase {
+        LOGIN_LOOKUP(Operation.LOGIN, "db_lookup"),
+        LOGIN_HASH_VERIFY(Operation.LOGIN, "hash_verify"),
+        LOGIN_TOKEN(Operation.LOGIN, "token_sign"),
+
+        REGISTER_LOOKUP(Operation.REGISTER, "db_lookup"),
+        REGISTER_HASH(Operation.REGISTER, "hash_encode"),
+        REGISTER_INSERT(Operation.REGISTER, "db_insert"),
+
+        CHANGE_PASSWORD_LOOKUP(Operation.CHANGE_PASSWORD, "db_lookup"),
+        CHANGE_PASSWORD_HASH_VERIFY(Operation.CHANGE_PASSWORD, "hash_verify"),
+        CHANGE_PASSWORD_HASH(Operation.CHANGE_PASSWORD, "hash_encode"),
+        CHANGE_PASSWORD_UPDATE(Operation.CHANGE_PASSWORD, "db_update"),
+
+        PROFILE_IMAGE_UPLOAD(Operation.UPDATE_PROFILE_IMAGE, "s3_put"),
+        PROFILE_IMAGE_UPDATE(Operation.UPDATE_PROFILE_IMAGE, "db_update");
+
+        private final Operation operation;
+        private final String tagValue;
+
+        Phase(Operation operation, String tagValue) {
+            this.operation = operation;
+            this.tagValue = tagValue;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * 관리 API 접근 권한 설정
+ * - admin-member-ids: ROLE_ADMIN 을 부여할 회원 ID (회원 내보내기, 일괄 가입)
+ * - service-tokens: 서비스 이름 → 서비스 간 호출 토큰 (X-Service-Token 헤더, ROLE_SERVICE 부여)
+ */
+package com.nsmm.esg.authservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.security")
+public class AuthSecurityProperties {
+
+    private Set<Long> adminMemberIds = new HashSet<>();
+
+    private Map<String, String> serviceTokens = new LinkedHashMap<>();
+}
@@ -3,8 +3,19 @@ package com.nsmm.esg.authservice.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class AwsConfig {
@@ -12,10 +23,83 @@ public class AwsConfig {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 비동기 클라이언트 동시 연결 수
+    @Value("${cloud.aws.s3.async.max-concurrency:64}")
+    private int maxConcurrency;
+
+    // 연결 대기 요청 상한
+    @Value("${cloud.aws.s3.async.max-pending-acquires:1000}")
+    private int maxPendingAcquires;
+
+    // 이 크기 이상이면 멀티파트 업로드
+    @Value("${cloud.aws.s3.multipart.threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    @Value("${cloud.aws.s3.multipart.part-size-bytes:8388608}")
+    private long multipartPartSizeBytes;
+
+    // 업로드 스트림 읽기 및 완료 후처리 스레드 수
+    @Value("${cloud.aws.s3.transfer.threads:8}")
+    private int transferThreads;
+
     @Bean
     public S3Client s3Client() {
         return S3Client.builder()
                 .region(Region.of(region))
                 .build();
     }
+
+    /**
+     * 클라이언트 직접 업로드용 presigned URL 생성기
+     */
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .build();
+    }
+
+    /**
+     * 업로드용 비동기 S3 클라이언트
+     * - Netty 기반 논블로킹 I/O, 연결 풀 크기 조정
+     * - 임계값 이상 파일은 자동으로 멀티파트 업로드
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .maxPendingConnectionAcquires(maxPendingAcquires)
+                        .connectionAcquisitionTimeout(Duration.ofSeconds(10))
+                        .connectionMaxIdleTime(Duration.ofSeconds(60))
+                        .tcpKeepAlive(true))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(multipartPartSizeBytes)
+                        .build())
+                .build();
+    }
+
+    /**
+     * S3 전송 보조 실행기
+     * - 업로드 파일 스트림을 읽어 비동기 요청 본문으로 공급
+     * - 업로드 완료 후처리(DB 갱신 등) 실행, 요청 스레드와 SDK 이벤트 루프를 점유하지 않음
+     * - 대기열이 가득 차면 호출 스레드에서 실행하지 않고 거부 (FileStorageService 가 503 으로 응답)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3TransferExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                transferThreads, transferThreads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-transfer-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
 }
@@ -1,5 +1,7 @@
 package com.nsmm.esg.authservice.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,15 +10,62 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Arrays;
 import java.util.List;
 
+@Slf4j
 @Configuration
 public class BeanConfig {
 
+    // BCrypt가 허용하는 최대 cost
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+
+    // cost별 측정 반복 횟수 (중앙값 사용)
+    private static final int CALIBRATION_SAMPLES = 3;
+
     //비밀번호 암호화
+    // - bcrypt-strength가 지정되면 해당 cost 사용
+    // - 지정되지 않으면 기동 시 1회 해시 시간이 목표 지연(target-hash-millis)을 넘지 않는 최대 cost를 측정하여 선택
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.password.bcrypt-strength:0}") int fixedStrength,
+            @Value("${auth.password.min-strength:10}") int minStrength,
+            @Value("${auth.password.target-hash-millis:250}") long targetHashMillis) {
+        int strength = fixedStrength > 0
+                ? fixedStrength
+                : calibrateBcryptStrength(minStrength, targetHashMillis);
+        log.info("BCrypt cost 설정: {} (고정값={}, 목표 지연={}ms)", strength, fixedStrength, targetHashMillis);
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 현재 하드웨어에서 목표 지연 이내로 해시할 수 있는 최대 BCrypt cost 측정
+     * - cost가 1 오를 때마다 해시 시간이 약 2배가 되므로 최소 cost부터 올려가며 측정
+     * - 최소 cost보다 낮추지는 않음 (보안 하한선)
+     */
+    private static int calibrateBcryptStrength(int minStrength, long targetHashMillis) {
+        int selected = minStrength;
+        for (int strength = minStrength; strength <= MAX_BCRYPT_STRENGTH; strength++) {
+            long elapsedMillis = measureHashMillis(strength);
+            log.debug("BCrypt cost 측정: cost={}, 소요={}ms", strength, elapsedMillis);
+            if (elapsedMillis > targetHashMillis) {
+                break;
+            }
+            selected = strength;
+        }
+        return selected;
+    }
+
+    private static long measureHashMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-password");
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[CALIBRATION_SAMPLES / 2];
     }
     //------------------------------------------------------------------------------------------------------
 
@@ -0,0 +1,39 @@
+/**
+ * 클라이언트 IP 확인
+ * - 게이트웨이 뒤에서 동작하면(trust-forwarded-for) X-Forwarded-For의 마지막 주소 사용
+ *   (게이트웨이가 직접 본 주소를 덧붙이므로, 클라이언트가 임의로 넣은 앞쪽 값은 무시)
+ * - 기본값은 신뢰하지 않음: 게이트웨이를 거치지 않고 접근 가능하면 요청마다 헤더를 바꿔 IP 제한을 우회할 수 있으므로
+ *   게이트웨이 뒤 배포에서만 설정으로 활성화
+ * - 그 외에는 getRemoteAddr() 사용
+ */
+package com.nsmm.esg.authservice.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final boolean trustForwardedFor;
+
+    public ClientIpResolver(@Value("${auth.client-ip.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader(FORWARDED_FOR);
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int lastComma = forwardedFor.lastIndexOf(',');
+                String last = forwardedFor.substring(lastComma + 1).trim();
+                if (!last.isEmpty()) {
+                    return last;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * primary/replica 읽기-쓰기 라우팅 설정 (auth.datasource.routing.enabled=true 일 때만)
+ * - 쓰기 및 일반 트랜잭션: spring.datasource (primary 풀)
+ * - @Transactional(readOnly = true) 트랜잭션: 정상 복제본 풀 (없으면 primary)
+ * - LazyConnectionDataSourceProxy 가 첫 쿼리 시점까지 물리 연결을 미루므로,
+ *   트랜잭션 시작 시 설정된 readOnly 플래그로 primary/복제본을 선택할 수 있음
+ * - primary 풀에는 spring.datasource.hikari.* 설정(풀 크기, 드라이버 연결 속성 등)을 그대로 적용
+ * - 모든 풀은 Hikari 메트릭(hikaricp.connections.*)을 pool 태그(primary, replica-{name})로 노출
+ */
+package com.nsmm.esg.authservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "auth.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceRoutingProperties.class, DataSourceProperties.class})
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSourceRouter replicaDataSourceRouter(DataSourceProperties dataSourceProperties,
+                                                           DataSourceRoutingProperties routingProperties,
+                                                           Environment environment,
+                                                           ObjectProvider<MeterRegistry> registryProvider) {
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        return create(dataSourceProperties, routingProperties, registry,
+                primary -> Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary)));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaDataSourceRouter replicaDataSourceRouter) {
+        return routingDataSource(replicaDataSourceRouter);
+    }
+
+    /**
+     * primary 풀, 복제본 풀, 라우터 생성 (스프링 컨텍스트 없이 테스트에서도 사용)
+     */
+    static ReplicaDataSourceRouter create(DataSourceProperties dataSourceProperties,
+                                          DataSourceRoutingProperties routingProperties,
+                                          MeterRegistry registry) {
+        return create(dataSourceProperties, routingProperties, registry, primary -> {
+        });
+    }
+
+    static ReplicaDataSourceRouter create(DataSourceProperties dataSourceProperties,
+                                          DataSourceRoutingProperties routingProperties,
+                                          MeterRegistry registry,
+                                          Consumer<HikariDataSource> primaryCustomizer) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primaryCustomizer.accept(primary);
+        primary.setPoolName("primary");
+        primary.setMetricRegistry(registry);
+
+        List<ReplicaDataSourceRouter.ReplicaPool> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + replica.getName());
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setDriverClassName(dataSourceProperties.getDriverClassName());
+            pool.setMaximumPoolSize(routingProperties.getReplicaPoolSize());
+            pool.setReadOnly(true);
+            pool.setMetricRegistry(registry);
+            replicas.add(new ReplicaDataSourceRouter.ReplicaPool(replica.getName(), pool));
+        }
+        return new ReplicaDataSourceRouter(primary, replicas, routingProperties, registry);
+    }
+
+    static DataSource routingDataSource(ReplicaDataSourceRouter router) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(router.getPrimary());
+        proxy.setReadOnlyDataSource(router);
+        return proxy;
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * 읽기 복제본(replica) 라우팅 설정
+ * - enabled: 라우팅 사용 여부 (false 이면 spring.datasource 단일 풀)
+ * - replicas: 읽기 전용 트랜잭션을 보낼 복제본 목록
+ * - max-lag-seconds: 이보다 지연된 복제본은 제외 (모두 제외되면 primary 로 읽음)
+ * - lag-query / lag-column: 복제 지연 조회 쿼리와 지연(초) 컬럼, lag-query 가 비어 있으면 연결 확인만 수행
+ */
+package com.nsmm.esg.authservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private long maxLagSeconds = 5;
+
+    // 상태 확인 주기 (초)
+    private long healthCheckIntervalSeconds = 5;
+
+    // MySQL 8.0.22+ 기준, 결과 행이 없거나 지연 값이 NULL(복제 중단)이면 제외
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    private String lagColumn = "Seconds_Behind_Source";
+
+    // 복제본 풀 크기
+    private int replicaPoolSize = 10;
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
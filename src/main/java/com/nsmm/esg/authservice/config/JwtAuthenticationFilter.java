@@ -5,18 +5,45 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 토큰 검사가 필요 없는 공개 경로
+    private static final Set<String> PUBLIC_PATHS = Set.of(
+            "/auth/login",
+            "/auth/register",
+            "/auth/email-available",
+            "/.well-known/jwks.json"
+    );
+
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final JwtTokenProvider jwtTokenProvider;
 
+    // ROLE_ADMIN 을 부여할 회원 ID (auth.security.admin-member-ids)
+    private final Set<Long> adminMemberIds;
+
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+        this(jwtTokenProvider, Set.of());
+    }
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, Set<Long> adminMemberIds) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.adminMemberIds = Set.copyOf(adminMemberIds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PUBLIC_PATHS.contains(request.getServletPath());
     }
 
     @Override
@@ -25,13 +52,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Long userId = jwtTokenProvider.getMemberId(token);
+        if (token != null) {
+            // 검증과 memberId 추출을 한 번의 파싱(또는 캐시 조회)으로 처리
+            Long userId = jwtTokenProvider.resolveMemberId(token);
 
-            UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+            if (userId != null) {
+                UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(userId, null,
+                        adminMemberIds.contains(userId) ? ADMIN_AUTHORITIES : Collections.emptyList());
 
-            SecurityContextHolder.getContext().setAuthentication(auth);
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,174 @@
+/**
+ * JWT 서명 키 링 (ES256)
+ * - kid별 검증용 공개키와 현재 서명용 개인키 관리
+ * - 키 교체 시 새 키를 active-kid로 지정하고, 이전 키는 공개키만 남겨 기존 토큰 만료까지 검증
+ * - JWKS(JSON) 본문과 ETag를 기동 시 한 번만 생성
+ */
+package com.nsmm.esg.authservice.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtKeyRing {
+
+    // P-256 좌표 길이 (바이트)
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private final Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+
+    @Getter
+    private final String activeKid;
+
+    @Getter
+    private final PrivateKey activePrivateKey;
+
+    @Getter
+    private final byte[] jwksJson;
+
+    @Getter
+    private final String jwksEtag;
+
+    public JwtKeyRing(JwtSigningProperties properties, ObjectMapper objectMapper) {
+        PrivateKey privateKey = null;
+        String kid = properties.getActiveKid();
+
+        if (properties.getKeys().isEmpty()) {
+            // 다중 인스턴스에서 토큰이 서로 검증되지 않고 재기동마다 전원 로그아웃되므로 명시적으로 허용한 경우만 임시 키 생성
+            if (!properties.isAllowEphemeralKey()) {
+                throw new IllegalStateException("JWT 서명 키(jwt.signing.keys)가 설정되지 않았습니다. "
+                        + "로컬/테스트 환경에서만 jwt.signing.allow-ephemeral-key=true 로 임시 키를 사용할 수 있습니다.");
+            }
+            KeyPair keyPair = generateEphemeralKeyPair();
+            kid = "ephemeral-" + UUID.randomUUID();
+            verificationKeys.put(kid, keyPair.getPublic());
+            privateKey = keyPair.getPrivate();
+            log.warn("JWT 서명 키가 설정되지 않아 임시 키를 생성했습니다: kid={}", kid);
+        } else {
+            for (JwtSigningProperties.KeyEntry entry : properties.getKeys()) {
+                verificationKeys.put(entry.getKid(), parsePublicKey(entry.getPublicKey()));
+                if (entry.getKid().equals(kid) && entry.getPrivateKey() != null) {
+                    privateKey = parsePrivateKey(entry.getPrivateKey());
+                }
+            }
+            if (privateKey == null) {
+                throw new IllegalStateException("active-kid에 해당하는 개인키가 없습니다: " + kid);
+            }
+        }
+
+        this.activeKid = kid;
+        this.activePrivateKey = privateKey;
+        this.jwksJson = serializeJwks(objectMapper);
+        this.jwksEtag = "\"" + digest(jwksJson) + "\"";
+        log.info("JWT 키 링 초기화: 서명 kid={}, 검증 kid={}", activeKid, verificationKeys.keySet());
+    }
+
+    /**
+     * kid에 해당하는 검증용 공개키
+     * @return 없으면 null
+     */
+    public PublicKey getVerificationKey(String kid) {
+        return verificationKeys.get(kid);
+    }
+
+    private byte[] serializeJwks(ObjectMapper objectMapper) {
+        List<Map<String, String>> keys = new ArrayList<>();
+        verificationKeys.forEach((kid, publicKey) -> {
+            ECPublicKey ecKey = (ECPublicKey) publicKey;
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", "ES256");
+            jwk.put("x", encodeCoordinate(ecKey.getW().getAffineX()));
+            jwk.put("y", encodeCoordinate(ecKey.getW().getAffineY()));
+            keys.add(jwk);
+        });
+
+        try {
+            return objectMapper.writeValueAsBytes(Collections.singletonMap("keys", keys));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWKS 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 좌표를 부호 없는 고정 길이(32바이트) Base64URL로 인코딩 (RFC 7518)
+     */
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] raw = coordinate.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+        int copyLength = Math.min(raw.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(raw, raw.length - copyLength, fixed, P256_COORDINATE_LENGTH - copyLength, copyLength);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static KeyPair generateEphemeralKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 임시 키 생성에 실패했습니다.", e);
+        }
+    }
+
+    private static PrivateKey parsePrivateKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 개인키 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private static PublicKey parsePublicKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 공개키 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    // PEM 헤더/푸터와 공백을 제거하고 Base64 디코딩
+    private static byte[] decodePem(String encoded) {
+        String base64 = encoded.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * JWT 서명 키 설정
+ * - keys: 서명/검증 키 목록 (개인키가 없는 키는 검증 전용, 교체 후 기존 토큰 검증용)
+ * - active-kid: 신규 토큰 서명에 사용할 키 ID
+ * - legacy-hmac-enabled: 기존 HS256(jwt.secret) 토큰 검증 허용 여부 (전환 기간용)
+ * - allow-ephemeral-key: 키 미설정 시 임시 키 생성 허용 여부 (local/loadtest 프로필 전용, 기본값이면 기동 실패)
+ */
+package com.nsmm.esg.authservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    private String activeKid;
+
+    private List<KeyEntry> keys = new ArrayList<>();
+
+    private boolean legacyHmacEnabled = true;
+
+    // 인스턴스마다 다른 키가 생기고 재기동 시 모든 토큰이 무효화되므로 운영에서는 false 유지
+    private boolean allowEphemeralKey = false;
+
+    // JWKS 응답 캐시 시간 (초)
+    private long jwksMaxAgeSeconds = 300;
+
+    @Getter
+    @Setter
+    public static class KeyEntry {
+        private String kid;
+        private String privateKey; // PKCS#8 (PEM 또는 Base64 DER)
+        private String publicKey;  // X.509 SubjectPublicKeyInfo (PEM 또는 Base64 DER)
+    }
+}
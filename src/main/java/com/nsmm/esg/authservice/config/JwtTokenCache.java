@@ -0,0 +1,107 @@
+/**
+ * 검증된 JWT 캐시
+ * - 토큰 다이제스트(SHA-256) → 검증 결과(memberId, 만료 시각) 매핑
+ * - 토큰 만료 시각에 맞춰 항목이 만료되며, 최대 크기를 넘으면 오래된 항목부터 제거
+ * - 같은 노드에 반복해서 들어오는 토큰은 서명 검증 없이 처리
+ */
+package com.nsmm.esg.authservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+public class JwtTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:100000}") long maxSize,
+                         ObjectProvider<MeterRegistry> registryProvider) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        // 적중/미스/제거 메트릭을 기존 Micrometer 레지스트리에 노출
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검증 결과 조회, 없으면 verifier로 검증 후 저장
+     * - verifier가 null을 반환하면(유효하지 않은 토큰) 캐시에 저장하지 않음
+     * @param token JWT 토큰 (Bearer 접두사 제외)
+     * @param verifier 서명 검증 함수
+     * @return 검증 결과, 유효하지 않으면 null
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        VerifiedToken verified = cache.get(digest(token), key -> verifier.apply(token));
+        if (verified != null && verified.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return verified;
+    }
+
+    /**
+     * 토큰 원문 대신 다이제스트를 키로 사용 (메모리 사용량 고정, 토큰 원문 미보관)
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 검증된 토큰 정보
+     * @param memberId 사용자 고유 ID
+     * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+     */
+    public record VerifiedToken(Long memberId, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+
+    /**
+     * 항목 만료 시점을 토큰의 exp 클레임에 맞추는 정책
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.nsmm.esg.authservice.config;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -10,19 +11,41 @@ import java.security.Key;
 import java.util.Date;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
+    // 만료 클레임이 없는 토큰의 캐시 보관 상한 (밀리초)
+    private static final long MAX_CACHE_TTL_MILLIS = 60 * 60 * 1000L;
+
+    private final JwtTokenCache tokenCache;
+    private final JwtKeyRing keyRing;
+    private final JwtSigningProperties signingProperties;
+
+    // 기존 HS256 토큰 검증용 (legacy-hmac-enabled 일 때만 사용)
+    @Value("${jwt.secret:}")
     private String secretKeyEncoded;
 
-    private Key key;
+    private Key legacyHmacKey;
+
+    // kid로 키를 찾는 파서를 한 번만 생성해 재사용 (스레드 안전)
+    private JwtParser parser;
 
     @Value("${jwt.expiration-hours}")
     private long expirationHours;
 
     @PostConstruct
     protected void init() {
-        this.key = Keys.hmacShaKeyFor(secretKeyEncoded.getBytes());
+        if (signingProperties.isLegacyHmacEnabled() && !secretKeyEncoded.isEmpty()) {
+            this.legacyHmacKey = Keys.hmacShaKeyFor(secretKeyEncoded.getBytes());
+        }
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header);
+                    }
+                })
+                .build();
     }
 
     /**
@@ -35,23 +58,32 @@ public class JwtTokenProvider {
         Date expiry = new Date(now.getTime() + expirationHours * 60 * 60 * 1000L);
 
         return "Bearer " + Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid()) // 검증 측에서 JWKS의 키를 찾기 위한 kid
                 .setSubject(String.valueOf(memberId)) // subject에 userId 저장
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(keyRing.getActivePrivateKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
+    /**
+     * 토큰 검증과 userId 추출을 한 번에 처리 (필터 전용 경로)
+     * - 같은 토큰은 캐시된 검증 결과를 사용하여 서명 검증을 생략
+     * @param token JWT 토큰
+     * @return memberId, 유효하지 않은 토큰이면 null
+     */
+    public Long resolveMemberId(String token) {
+        JwtTokenCache.VerifiedToken verified = tokenCache.get(token, this::verify);
+        return verified != null ? verified.memberId() : null;
+    }
+
     /**
      * 토큰에서 userId 추출
      * @param token JWT 토큰
      * @return memberId
      */
     public Long getMemberId(String token) {
-        return Long.parseLong(Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return Long.parseLong(parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject());
     }
@@ -62,13 +94,48 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token); // 유효하면 예외 없음
+            parser.parseClaimsJws(token); // 유효하면 예외 없음
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
+
+    /**
+     * 토큰 헤더로 검증 키 선택
+     * - kid가 있으면 키 링의 공개키 (ES256)
+     * - kid가 없는 HS256 토큰은 전환 기간 동안 jwt.secret으로 검증
+     */
+    private Key resolveVerificationKey(JwsHeader<?> header) {
+        String kid = header.getKeyId();
+        if (kid != null) {
+            Key publicKey = keyRing.getVerificationKey(kid);
+            if (publicKey == null) {
+                throw new UnsupportedJwtException("알 수 없는 서명 키입니다: kid=" + kid);
+            }
+            return publicKey;
+        }
+        if (legacyHmacKey != null && SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+            return legacyHmacKey;
+        }
+        throw new UnsupportedJwtException("서명 키를 식별할 수 없는 토큰입니다.");
+    }
+
+    /**
+     * 서명 검증 1회로 클레임 파싱
+     * @return 검증 결과, 유효하지 않으면 null
+     */
+    private JwtTokenCache.VerifiedToken verify(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            long expiresAt = expiration != null
+                    ? expiration.getTime()
+                    : System.currentTimeMillis() + MAX_CACHE_TTL_MILLIS;
+            return new JwtTokenCache.VerifiedToken(Long.parseLong(claims.getSubject()), expiresAt);
+        } catch (JwtException | IllegalArgumentException e) {
+            // NumberFormatException 포함 (subject가 숫자가 아닌 경우)
+            return null;
+        }
+    }
 }
@@ -0,0 +1,201 @@
+/**
+ * 읽기 전용 연결을 건강한 복제본으로 분배하는 DataSource
+ * - LazyConnectionDataSourceProxy 의 readOnlyDataSource 로 사용 (읽기 전용 트랜잭션의 연결만 여기로 옴)
+ * - 주기적으로 복제본 연결과 복제 지연을 확인하여, 정상인 복제본 사이에서 라운드 로빈
+ * - 정상 복제본이 없거나 primary 강제 구간(onPrimary)이면 primary 연결 반환
+ */
+package com.nsmm.esg.authservice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+public class ReplicaDataSourceRouter extends AbstractDataSource implements AutoCloseable {
+
+    // 복제 지연을 허용할 수 없는 읽기를 primary 로 보내는 구간 표시
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    private volatile ReplicaPool[] healthy = new ReplicaPool[0];
+
+    public ReplicaDataSourceRouter(DataSource primary, List<ReplicaPool> replicas,
+                                   DataSourceRoutingProperties properties, MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagSeconds = properties.getMaxLagSeconds();
+        this.lagQuery = properties.getLagQuery();
+        this.lagColumn = properties.getLagColumn();
+
+        for (ReplicaPool replica : replicas) {
+            Gauge.builder("auth.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("복제본 읽기 라우팅 대상 여부 (1 = 정상)")
+                    .tag("pool", replica.name)
+                    .register(registry);
+            Gauge.builder("auth.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("마지막으로 확인한 복제 지연 (초, 확인 실패 시 -1)")
+                    .tag("pool", replica.name)
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+
+        refreshHealth();
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthCheckIntervalSeconds();
+        healthChecker.scheduleWithFixedDelay(this::refreshHealth, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 주어진 작업 안의 읽기 전용 조회를 primary 에서 실행
+     * - 방금 쓴 데이터를 다시 읽어야 하는 경우 (가입 직후 로그인, 변경 직후 조회 등)
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 쓰기 및 복제본 대체용 primary 풀
+     */
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return select().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return select().getConnection(username, password);
+    }
+
+    private DataSource select() {
+        ReplicaPool[] candidates = healthy;
+        if (candidates.length == 0 || FORCE_PRIMARY.get() != null) {
+            return primary;
+        }
+        return candidates[Math.floorMod(sequence.getAndIncrement(), candidates.length)].dataSource;
+    }
+
+    /**
+     * 복제본 상태 확인 (연결 가능 여부, 복제 지연)
+     */
+    void refreshHealth() {
+        List<ReplicaPool> available = new ArrayList<>(replicas.size());
+        for (ReplicaPool replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            replica.lagSeconds = checkLag(replica);
+            replica.healthy = replica.lagSeconds >= 0 && replica.lagSeconds <= maxLagSeconds;
+            if (replica.healthy) {
+                available.add(replica);
+            }
+            if (wasHealthy != replica.healthy) {
+                log.warn("복제본 상태 변경: pool={}, 정상={}, 지연={}초", replica.name, replica.healthy, replica.lagSeconds);
+            }
+        }
+        this.healthy = available.toArray(new ReplicaPool[0]);
+    }
+
+    /**
+     * @return 복제 지연(초), 연결 실패 또는 복제 중단이면 -1 (예외는 밖으로 던지지 않음)
+     */
+    private long checkLag(ReplicaPool replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return -1;
+            }
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return 0;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return -1;
+                }
+                long lag = resultSet.getLong(lagColumn);
+                return resultSet.wasNull() ? -1 : lag;
+            }
+        } catch (SQLException e) {
+            log.debug("복제본 상태 확인 실패: pool={}, 원인={}", replica.name, e.getMessage());
+            return -1;
+        } catch (RuntimeException e) {
+            // 풀 초기화 실패 등 (예외가 주기 작업 밖으로 나가면 이후 상태 확인이 모두 중단됨)
+            log.warn("복제본 상태 확인 중 예외: pool={}, 예외={}, 원인={}",
+                    replica.name, e.getClass().getSimpleName(), e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        for (ReplicaPool replica : replicas) {
+            closeQuietly(replica.name, replica.dataSource);
+        }
+        closeQuietly("primary", primary);
+    }
+
+    private static void closeQuietly(String name, DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("커넥션 풀 종료 실패: pool={}, 원인={}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 복제본 풀과 마지막 상태 확인 결과
+     */
+    public static final class ReplicaPool {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagSeconds = -1;
+
+        public ReplicaPool(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.nsmm.esg.authservice.config;
 import org.springframework.http.HttpMethod;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -18,12 +19,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(AuthSecurityProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     // JWT 토큰 유효성 검사 및 사용자 인증 처리에 사용되는 Provider
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 관리자 회원 ID, 서비스 간 호출 토큰
+    private final AuthSecurityProperties securityProperties;
+
     /**
      * SecurityFilterChain 설정 (Spring Security 5 이상에서 사용)
      * - JWT 기반 인증 및 인가를 위한 보안 필터 체인 구성
@@ -54,10 +59,18 @@ public class SecurityConfig {
                         // CORS 사전 요청(OPTIONS 메서드)은 인증 없이 허용
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // 서비스 간 호출 전용 (다른 회원의 연락처를 포함하므로 일반 회원 토큰으로는 호출 불가)
+                        .requestMatchers("/auth/members/batch").hasRole("SERVICE")
+                        // 회원 일괄 가입 (임의의 이메일/비밀번호로 계정을 만들 수 있으므로 관리자 또는 서비스만)
+                        .requestMatchers("/auth/members/import").hasAnyRole("ADMIN", "SERVICE")
+                        // 회원 전체 내보내기 (전 회원 연락처 포함, 컴플라이언스 보고용이므로 관리자만)
+                        .requestMatchers("/auth/members/export").hasRole("ADMIN")
+
                         // 인증이 필요 없는 공용 API 경로
                         .requestMatchers("/auth/**").permitAll()        // 로그인, 회원가입 등
                         .requestMatchers("/images/**").permitAll()      // 정적 이미지 접근 허용
                         .requestMatchers("/actuator/**").permitAll()    // Actuator 엔드포인트 접근 허용
+                        .requestMatchers("/.well-known/**").permitAll() // JWKS 공개키 조회
 
                         // 위에서 명시한 경로 외에는 모두 인증 필요
                         .anyRequest().authenticated()
@@ -66,8 +79,14 @@ public class SecurityConfig {
                 // JWT 인증 필터 등록
                 // UsernamePasswordAuthenticationFilter 앞에 위치시켜 요청마다 JWT 검사 우선 실행
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(jwtTokenProvider, securityProperties.getAdminMemberIds()),
                         UsernamePasswordAuthenticationFilter.class
+                )
+
+                // 서비스 간 호출 토큰 인증 필터 (JWT 필터 다음, 토큰이 일치하면 서비스 주체로 인증)
+                .addFilterAfter(
+                        new ServiceAuthenticationFilter(securityProperties.getServiceTokens()),
+                        JwtAuthenticationFilter.class
                 );
 
         // 최종적으로 구성된 필터 체인 반환
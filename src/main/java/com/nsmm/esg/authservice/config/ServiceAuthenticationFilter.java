@@ -0,0 +1,80 @@
+/**
+ * 서비스 간 호출 인증 필터
+ * - X-Service-Token 헤더가 설정된 서비스 토큰과 일치하면 서비스 이름을 주체로, ROLE_SERVICE 권한으로 인증
+ * - 토큰은 SHA-256 다이제스트로 보관하고 상수 시간으로 비교
+ * - 헤더가 없거나 일치하지 않으면 인증 정보를 바꾸지 않음 (서비스 전용 경로는 SecurityConfig 에서 거부)
+ */
+package com.nsmm.esg.authservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ServiceAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Service-Token";
+
+    private static final List<SimpleGrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_SERVICE"));
+
+    // 서비스 이름 → 토큰 다이제스트
+    private final Map<String, byte[]> tokenDigests = new LinkedHashMap<>();
+
+    public ServiceAuthenticationFilter(Map<String, String> serviceTokens) {
+        serviceTokens.forEach((service, token) -> {
+            if (token != null && !token.isBlank()) {
+                tokenDigests.put(service, digest(token));
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return tokenDigests.isEmpty() || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String service = resolveService(request.getHeader(HEADER));
+        if (service != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(service, null, AUTHORITIES));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveService(String token) {
+        byte[] presented = digest(token);
+        String matched = null;
+        // 일치 여부와 무관하게 모든 토큰과 비교
+        for (Map.Entry<String, byte[]> entry : tokenDigests.entrySet()) {
+            if (MessageDigest.isEqual(entry.getValue(), presented)) {
+                matched = entry.getKey();
+            }
+        }
+        return matched;
+    }
+
+    private static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * JWKS 공개 API 컨트롤러
+ * - 다른 서비스/게이트웨이가 auth-service 호출 없이 JWT를 직접 검증할 수 있도록 공개키 목록 제공
+ */
+package com.nsmm.esg.authservice.controller;
+
+import com.nsmm.esg.authservice.config.JwtKeyRing;
+import com.nsmm.esg.authservice.config.JwtSigningProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtSigningProperties signingProperties;
+
+    /**
+     * JWKS 조회 API
+     * - 미리 직렬화된 본문 반환, If-None-Match가 ETag와 같으면 304 응답
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(signingProperties.getJwksMaxAgeSeconds()))
+                        .cachePublic())
+                .eTag(jwtKeyRing.getJwksEtag())
+                .body(jwtKeyRing.getJwksJson());
+    }
+}
@@ -4,9 +4,19 @@
  */
 package com.nsmm.esg.authservice.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.authservice.config.ClientIpResolver;
 import com.nsmm.esg.authservice.dto.*;
 import com.nsmm.esg.authservice.exception.AuthorizationException;
 import com.nsmm.esg.authservice.exception.InvalidInputException;
+import com.nsmm.esg.authservice.service.CompanyNameIndex;
+import com.nsmm.esg.authservice.service.LoginRateLimiter;
+import com.nsmm.esg.authservice.service.MemberBatchService;
+import com.nsmm.esg.authservice.service.MemberExportService;
+import com.nsmm.esg.authservice.service.MemberImportService;
+import com.nsmm.esg.authservice.service.MemberProfileCache;
+import com.nsmm.esg.authservice.service.MemberSearchService;
 import com.nsmm.esg.authservice.service.MemberService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -15,7 +25,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
@@ -24,6 +43,14 @@ import org.springframework.web.multipart.MultipartFile;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberBatchService memberBatchService;
+    private final MemberImportService memberImportService;
+    private final MemberExportService memberExportService;
+    private final MemberSearchService memberSearchService;
+    private final CompanyNameIndex companyNameIndex;
+    private final ObjectMapper objectMapper;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * 인증된 사용자 ID 추출 공통 메서드
@@ -43,15 +70,154 @@ public class MemberController {
         throw new AuthorizationException("인증 정보가 유효하지 않습니다.");
     }
 
+    /**
+     * 호출 주체 이름 (회원 ID 또는 서비스 이름, 관리/서비스 간 API 로그용)
+     * - 접근 권한은 SecurityConfig 에서 확인하므로 여기서는 기록만 함
+     */
+    private String getCallerName() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "unknown" : authentication.getName();
+    }
+
     /**
      * 내 정보 조회 API
+     * - 미리 직렬화된 본문과 본문 해시 ETag 로 응답, If-None-Match 가 일치하면 본문 없이 304
+     * - 이 노드가 현재 ETag 를 알고 있으면 프로필을 로딩하기 전에 비교하여 304 (DB 조회 없음)
+     * - 회원별 응답이므로 private 캐시만 허용하고 매 요청 재검증 (no-cache)
      */
     @GetMapping("/me")
-    public ResponseEntity<MemberResponse> getMyInfo(HttpServletRequest request) {
+    public ResponseEntity<byte[]> getMyInfo(HttpServletRequest request) {
         Long memberId = getCurrentMemberId();
         log.info("내 정보 조회 요청: 회원ID={}, 요청IP={}", memberId, request.getRemoteAddr());
-        
-        MemberResponse response = memberService.getMemberInfo(memberId);
+
+        String knownEtag = memberService.getMemberInfoEtag(memberId);
+        if (knownEtag != null && new ServletWebRequest(request).checkNotModified(knownEtag)) {
+            return myInfoResponse(HttpStatus.NOT_MODIFIED, knownEtag).build();
+        }
+
+        MemberProfileCache.SerializedProfile profile = memberService.getMemberInfoBody(memberId);
+        return myInfoResponse(HttpStatus.OK, profile.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(profile.body());
+    }
+
+    private static ResponseEntity.BodyBuilder myInfoResponse(HttpStatus status, String etag) {
+        return ResponseEntity.status(status)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .varyBy(HttpHeaders.AUTHORIZATION);
+    }
+
+    /**
+     * 회원 일괄 조회 API (서비스 간 호출 전용, X-Service-Token 필요)
+     * - 회원 ID 목록을 받아 회원 ID → 회원 정보 Map으로 응답 (없는 회원은 제외)
+     * - 요청 ID가 많으면 청크 단위로 조회하며 JSON을 바로 써 내려가는 스트리밍 응답
+     */
+    @PostMapping("/members/batch")
+    public ResponseEntity<?> getMembers(
+            @RequestBody MemberBatchRequest request,
+            HttpServletRequest servletRequest) {
+        Set<Long> memberIds = memberBatchService.normalizeIds(request.getMemberIds());
+        log.info("회원 일괄 조회 요청: 호출 서비스={}, 조회 대상={}건, 요청IP={}",
+                getCallerName(), memberIds.size(), servletRequest.getRemoteAddr());
+
+        if (!memberBatchService.shouldStream(memberIds.size())) {
+            return ResponseEntity.ok(memberBatchService.getMembers(memberIds));
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                memberBatchService.forEachChunk(memberIds, chunk -> {
+                    try {
+                        for (MemberResponse member : chunk) {
+                            generator.writeFieldName(String.valueOf(member.getMemberId()));
+                            generator.writeObject(member);
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 회사명 자동완성 API (가입 화면용, 인증 불필요)
+     * - 입력한 접두어로 시작하는 기존 회사명을 회원 수 순으로 응답 (메모리 인덱스 조회, DB 조회 없음)
+     */
+    @GetMapping("/companies/suggest")
+    public ResponseEntity<List<CompanySuggestion>> suggestCompanies(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(companyNameIndex.suggest(query, limit));
+    }
+
+    /**
+     * 회원 검색 API (회사명, 이름 접두어, 직책)
+     * - 이름, 회원 ID 순 keyset 페이지, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+     */
+    @GetMapping("/members/search")
+    public ResponseEntity<MemberSearchResponse> searchMembers(
+            @RequestParam(value = "company", required = false) String companyName,
+            @RequestParam(value = "name", required = false) String namePrefix,
+            @RequestParam(value = "position", required = false) String position,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        Long memberId = getCurrentMemberId();
+        log.debug("회원 검색 요청: 회원ID={}, 회사={}, 이름={}, 직책={}", memberId, companyName, namePrefix, position);
+
+        return ResponseEntity.ok(memberSearchService.search(companyName, namePrefix, position, size, cursor));
+    }
+
+    /**
+     * 회원 전체 내보내기 API (컴플라이언스 보고용, 관리자만, 비밀번호 해시 제외)
+     * - CSV 또는 NDJSON 으로 id 순서대로 스트리밍, gzip=true 이면 gzip 으로 압축하여 전송
+     */
+    @GetMapping("/members/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            HttpServletRequest servletRequest) {
+        MediaType mediaType = memberExportService.resolveMediaType(format);
+        log.info("회원 내보내기 요청: 호출자={}, 형식={}, gzip={}, 요청IP={}",
+                getCallerName(), format, gzip, servletRequest.getRemoteAddr());
+
+        StreamingResponseBody body = outputStream -> {
+            if (!gzip) {
+                memberExportService.export(outputStream, mediaType);
+                return;
+            }
+            GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 64 * 1024);
+            memberExportService.export(gzipStream, mediaType);
+            gzipStream.finish();
+        };
+
+        String filename = "members." + format + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * 회원 일괄 가입 API (회사 단위 온보딩용, 관리자 또는 서비스 간 호출만)
+     * - CSV(text/csv, 첫 행 헤더) 또는 NDJSON(application/x-ndjson) 본문을 한 행씩 읽어 처리
+     * - 행별 결과(가입, 중복, 입력 오류, 실패)와 처리량 요약으로 응답
+     */
+    @PostMapping(value = "/members/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<MemberImportResponse> importMembers(HttpServletRequest servletRequest) throws IOException {
+        log.info("회원 일괄 가입 요청: 호출자={}, 크기={}B, 요청IP={}",
+                getCallerName(), servletRequest.getContentLengthLong(), servletRequest.getRemoteAddr());
+
+        MemberImportResponse response = memberImportService.importMembers(
+                servletRequest.getInputStream(), MediaType.parseMediaType(servletRequest.getContentType()));
         return ResponseEntity.ok(response);
     }
 
@@ -68,6 +234,17 @@ public class MemberController {
         return ResponseEntity.ok("회원가입 성공");
     }
 
+    /**
+     * 이메일 사용 가능 여부 조회 API
+     */
+    @GetMapping("/email-available")
+    public ResponseEntity<EmailAvailabilityResponse> checkEmailAvailable(@RequestParam("email") String email) {
+        log.debug("이메일 사용 가능 여부 조회 요청: 이메일={}", email);
+
+        boolean available = memberService.isEmailAvailable(email);
+        return ResponseEntity.ok(new EmailAvailabilityResponse(email, available));
+    }
+
     /**
      * 로그인 API
      */
@@ -75,8 +252,12 @@ public class MemberController {
     public ResponseEntity<LoginResponse> login(
             @RequestBody LoginRequest request,
             HttpServletRequest servletRequest) {
-        log.info("로그인 요청: 이메일={}, 요청IP={}", request.getEmail(), servletRequest.getRemoteAddr());
-        
+        String clientIp = clientIpResolver.resolve(servletRequest);
+        log.info("로그인 요청: 이메일={}, 요청IP={}", request.getEmail(), clientIp);
+
+        // DB 조회와 비밀번호 검증 전에 시도 횟수 제한
+        loginRateLimiter.check(request.getEmail(), clientIp);
+
         String token = memberService.login(request);
         return ResponseEntity.ok(new LoginResponse(token));
     }
@@ -97,9 +278,10 @@ public class MemberController {
 
     /**
      * 프로필 이미지 업로드 API
+     * - 업로드 완료까지 요청 스레드를 반환하는 비동기 응답
      */
     @PutMapping("/profile-image")
-    public ResponseEntity<String> updateProfileImage(
+    public CompletableFuture<ResponseEntity<String>> updateProfileImage(
             @RequestParam("file") MultipartFile file,
             HttpServletRequest servletRequest) {
         Long memberId = getCurrentMemberId();
@@ -110,7 +292,35 @@ public class MemberController {
             throw new InvalidInputException("file", "파일이 비어있습니다.");
         }
         
-        String imageUrl = memberService.updateProfileImage(memberId, file);
+        return memberService.updateProfileImage(memberId, file)
+                .thenApply(imageUrl -> ResponseEntity.ok(imageUrl));
+    }
+
+    /**
+     * 프로필 이미지 직접 업로드 URL 발급 API
+     * - 클라이언트가 S3에 직접 PUT 하도록 짧은 유효기간의 presigned URL 발급
+     */
+    @PostMapping("/profile-image/upload-url")
+    public ResponseEntity<ProfileImageUploadUrlResponse> createProfileImageUploadUrl(
+            @RequestBody ProfileImageUploadUrlRequest request,
+            HttpServletRequest servletRequest) {
+        Long memberId = getCurrentMemberId();
+        log.info("프로필 이미지 업로드 URL 요청: 회원ID={}, 요청IP={}", memberId, servletRequest.getRemoteAddr());
+
+        return ResponseEntity.ok(memberService.createProfileImageUploadUrl(memberId, request));
+    }
+
+    /**
+     * 프로필 이미지 직접 업로드 확인 API
+     */
+    @PostMapping("/profile-image/confirm")
+    public ResponseEntity<String> confirmProfileImageUpload(
+            @RequestBody ProfileImageConfirmRequest request,
+            HttpServletRequest servletRequest) {
+        Long memberId = getCurrentMemberId();
+        log.info("프로필 이미지 업로드 확인 요청: 회원ID={}, 요청IP={}", memberId, servletRequest.getRemoteAddr());
+
+        String imageUrl = memberService.confirmProfileImageUpload(memberId, request);
         return ResponseEntity.ok(imageUrl);
     }
 
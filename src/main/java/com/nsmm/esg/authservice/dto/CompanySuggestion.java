@@ -0,0 +1,11 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CompanySuggestion {
+    private String companyName;
+    private Long memberCount; // 해당 회사로 가입한 회원 수
+}
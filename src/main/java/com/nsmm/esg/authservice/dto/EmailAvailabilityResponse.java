@@ -0,0 +1,11 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmailAvailabilityResponse {
+    private String email;
+    private boolean available; // 가입 가능 여부
+}
@@ -0,0 +1,10 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MemberBatchRequest {
+    private List<Long> memberIds; // 조회할 회원 ID 목록 (중복 허용, 응답에서는 한 번만 포함)
+}
@@ -0,0 +1,14 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증에 필요한 컬럼만 담는 조회 전용 프로젝션 (id, 비밀번호 해시)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberCredentials {
+    private Long id;
+    private String password; // 비밀번호 해시
+}
@@ -0,0 +1,31 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MemberImportResponse {
+
+    private Report report;
+    private List<MemberImportRowResult> results; // 행 순서대로
+
+    /**
+     * 처리 결과 요약 (시간 단위 ms)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Report {
+        private int total;
+        private int created;
+        private int duplicate;
+        private int invalid;
+        private int failed;
+        private long elapsedMillis;
+        private long hashMillis;   // 비밀번호 해시에 걸린 시간 (병렬 실행 구간의 벽시계 시간)
+        private long insertMillis; // 중복 조회와 INSERT 에 걸린 시간
+        private double rowsPerSecond;
+    }
+}
@@ -0,0 +1,21 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberImportRowResult {
+
+    private int line;       // 요청 본문 기준 행 번호 (CSV 헤더 포함, 1부터)
+    private String email;
+    private Status status;
+    private String message; // 실패 사유, 성공 시 null
+
+    public enum Status {
+        CREATED,   // 가입 완료
+        DUPLICATE, // 이미 가입된 이메일 또는 파일 안에서 중복된 이메일
+        INVALID,   // 형식 오류, 필수값 누락 등
+        FAILED     // 해시 또는 저장 중 오류
+    }
+}
@@ -1,9 +1,12 @@
 package com.nsmm.esg.authservice.dto;
 
+import com.nsmm.esg.authservice.image.ImageVariants;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 @Builder
 @AllArgsConstructor
@@ -16,5 +19,14 @@ public class MemberResponse {
     private String companyName;
     private String position;
     private String profileImageUrl;
+    private Map<String, String> profileImageVariants; // 크기(px) → 변형 이미지 URL, 생성 전에는 null
+
+    // JPQL 프로젝션용 생성자 (변형 이미지 기준 URL로 크기별 URL 구성)
+    public MemberResponse(Long memberId, String name, String email, String phoneNumber,
+                          String companyName, String position, String profileImageUrl,
+                          String profileImageVariantBaseUrl) {
+        this(memberId, name, email, phoneNumber, companyName, position, profileImageUrl,
+                ImageVariants.variantUrls(profileImageVariantBaseUrl));
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MemberSearchResponse {
+    private List<MemberSummary> members; // 이름, 회원 ID 순
+    private String nextCursor;           // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+}
@@ -0,0 +1,14 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberSummary {
+    private Long memberId;
+    private String name;
+    private String companyName;
+    private String position;
+    private String profileImageUrl;
+}
@@ -0,0 +1,8 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ProfileImageConfirmRequest {
+    private String key; // presigned URL 발급 시 받은 객체 키
+}
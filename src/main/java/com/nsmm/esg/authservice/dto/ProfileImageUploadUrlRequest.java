@@ -0,0 +1,9 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ProfileImageUploadUrlRequest {
+    private String contentType; // image/jpeg, image/png, image/gif
+    private Long contentLength; // 업로드할 파일 크기 (바이트)
+}
@@ -0,0 +1,17 @@
+package com.nsmm.esg.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ProfileImageUploadUrlResponse {
+    private String uploadUrl; // presigned PUT URL
+    private String key; // 업로드 완료 후 확인 요청에 전달할 객체 키
+    private Instant expiresAt; // URL 만료 시각
+    private Map<String, List<String>> requiredHeaders; // PUT 요청에 그대로 포함해야 하는 서명 헤더
+}
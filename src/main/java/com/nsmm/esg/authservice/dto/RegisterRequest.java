@@ -1,8 +1,14 @@
 package com.nsmm.esg.authservice.dto;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class RegisterRequest {
     private String name;
     private String email;
@@ -5,7 +5,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member", indexes = {
+        // 회원 검색 (조건 + 이름, ID 순 keyset 페이지)
+        @Index(name = "idx_member_company_name", columnList = "company_name, name, id"),
+        @Index(name = "idx_member_position_name", columnList = "position, name, id"),
+        @Index(name = "idx_member_name", columnList = "name, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -37,6 +42,10 @@ public class Member {
     @Column(length = 500)
     private String profileImageUrl;
 
+    // 크기별 변형 이미지 기준 URL ({기준 URL}/{크기}.jpg), 변형 생성 완료 전에는 null
+    @Column(length = 500)
+    private String profileImageVariantBaseUrl;
+
 
     // 비밀번호 변경 비즈니스 메서드
     public void changePassword(String encodedPassword) {
@@ -0,0 +1,30 @@
+package com.nsmm.esg.authservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 내용 주소 기반으로 저장된 이미지 객체
+ * - 같은 내용의 이미지는 하나의 S3 객체를 공유하고 참조 수로 사용 현황 관리
+ */
+@Entity
+@Table(name = "stored_image")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoredImage {
+
+    // 이미지 내용의 SHA-256 (hex)
+    @Id
+    @Column(length = 64)
+    private String digest;
+
+    @Column(nullable = false, length = 300)
+    private String objectKey;
+
+    // 이 이미지를 프로필로 사용 중인 회원 수
+    @Column(nullable = false)
+    private long refCount;
+
+}
@@ -1,6 +1,8 @@
 /**
  * 인증 서비스의 기본 예외 클래스
  * 모든 사용자 정의 예외는 이 클래스를 상속받아 구현
+ * - 예상된 비즈니스 실패(잘못된 비밀번호, 중복 가입 등)이므로 스택 트레이스를 생성하지 않음
+ *   (무차별 대입 공격 시 예외 생성 비용 제거, 원인 예외가 있으면 원인의 스택 트레이스는 유지)
  */
 package com.nsmm.esg.authservice.exception;
 
@@ -13,7 +15,11 @@ public abstract class AuthException extends RuntimeException {
     private final String errorCode;
 
     protected AuthException(String message, HttpStatus status, String errorCode) {
-        super(message);
+        this(message, status, errorCode, null);
+    }
+
+    protected AuthException(String message, HttpStatus status, String errorCode, Throwable cause) {
+        super(message, cause, false, false);
         this.status = status;
         this.errorCode = errorCode;
     }
@@ -0,0 +1,69 @@
+/**
+ * 반복 실패 로그 샘플러
+ * - 같은 키(예: 작업 + 예외 종류)의 로그를 시간 창마다 최대 N건만 남기고 나머지는 건수만 집계
+ * - 다음 창에서 처음 남기는 로그에 직전까지 생략된 건수를 함께 기록
+ * - 무차별 대입 공격 중에도 로그 양(디스크 I/O)이 요청 수와 무관하게 일정하게 유지됨
+ */
+package com.nsmm.esg.authservice.exception;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class FailureLogSampler {
+
+    // 생략 대상
+    public static final long SUPPRESSED = -1;
+
+    private final int logsPerWindow;
+    private final long windowNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public FailureLogSampler(@Value("${auth.logging.failure-logs-per-window:20}") int logsPerWindow,
+                             @Value("${auth.logging.failure-window-seconds:10}") long windowSeconds) {
+        this.logsPerWindow = logsPerWindow;
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+    }
+
+    /**
+     * 로그를 남겨도 되는지 확인
+     * @param key 로그 종류 (값의 종류가 한정된 문자열만 사용, 이메일 등 사용자 입력 금지)
+     * @return 남길 수 있으면 직전 창들에서 생략된 건수(0 이상), 생략해야 하면 SUPPRESSED
+     */
+    public long tryAcquire(String key) {
+        return windows.computeIfAbsent(key, k -> new Window(System.nanoTime()))
+                .tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * 키별 고정 시간 창 카운터 (락 없음, 창 경계에서 약간의 초과 허용)
+     */
+    private final class Window {
+
+        private final AtomicLong startNanos;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Window(long now) {
+            this.startNanos = new AtomicLong(now);
+        }
+
+        long tryAcquire(long now) {
+            long start = startNanos.get();
+            if (now - start >= windowNanos && startNanos.compareAndSet(start, now)) {
+                count.set(0);
+            }
+            if (count.incrementAndGet() <= logsPerWindow) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+    }
+}
@@ -14,7 +14,6 @@ public class FileStorageException extends AuthException {
     }
 
     public FileStorageException(String message, Throwable cause) {
-        super(message, STATUS, ERROR_CODE);
-        initCause(cause);
+        super(message, STATUS, ERROR_CODE, cause);
     }
 } 
\ No newline at end of file
@@ -5,10 +5,13 @@
  */
 package com.nsmm.esg.authservice.exception;
 
+import com.nsmm.esg.authservice.config.ClientIpResolver;
 import com.nsmm.esg.authservice.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -22,12 +25,25 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final FailureLogSampler failureLogSampler;
+    private final ClientIpResolver clientIpResolver;
+
     // 사용자 정의 AuthException 계열 예외 처리
+    // - 원인 없는 예상된 실패는 오류 코드별로 샘플링하여 스택 트레이스 없이 기록, 원인이 있으면 전체 기록
     @ExceptionHandler(AuthException.class)
     public ResponseEntity<ErrorResponse> handleAuthException(AuthException ex, HttpServletRequest request) {
-        log.error("AuthException 발생: {}", ex.getMessage(), ex);
+        if (ex.getCause() != null) {
+            log.error("AuthException 발생: {}", ex.getMessage(), ex);
+        } else {
+            long suppressed = failureLogSampler.tryAcquire("handler." + ex.getErrorCode());
+            if (suppressed != FailureLogSampler.SUPPRESSED) {
+                log.warn("AuthException 발생: 코드={}, 메시지={}, 생략된 로그={}건",
+                        ex.getErrorCode(), ex.getMessage(), suppressed);
+            }
+        }
         
         ErrorResponse response = ErrorResponse.of(
                 ex.getErrorCode(), 
@@ -37,6 +53,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, ex.getStatus());
     }
 
+    // 요청 횟수 제한 예외 처리 (Retry-After 헤더 포함, 공격 중 반복되므로 샘플링하여 기록)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, HttpServletRequest request) {
+        long suppressed = failureLogSampler.tryAcquire("handler." + ex.getErrorCode());
+        if (suppressed != FailureLogSampler.SUPPRESSED) {
+            log.warn("요청 횟수 제한: 경로={}, 요청IP={}, 생략된 로그={}건",
+                    request.getRequestURI(), clientIpResolver.resolve(request), suppressed);
+        }
+
+        ErrorResponse response = ErrorResponse.of(
+                ex.getErrorCode(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     // 폼 검증 실패 예외 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(
@@ -0,0 +1,19 @@
+/**
+ * 서버가 과부하 상태라 요청을 즉시 처리할 수 없을 때 발생하는 예외
+ */
+package com.nsmm.esg.authservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceOverloadedException extends AuthException {
+    private static final String ERROR_CODE = "AUTH-007";
+    private static final HttpStatus STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    public ServiceOverloadedException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", STATUS, ERROR_CODE);
+    }
+
+    public ServiceOverloadedException(String message) {
+        super(message, STATUS, ERROR_CODE);
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * 요청 횟수 제한을 넘었을 때 발생하는 예외 (로그인 무차별 대입 방지 등)
+ */
+package com.nsmm.esg.authservice.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class TooManyRequestsException extends AuthException {
+    private static final String ERROR_CODE = "AUTH-008";
+    private static final HttpStatus STATUS = HttpStatus.TOO_MANY_REQUESTS;
+
+    // 다시 시도할 수 있을 때까지 남은 시간 (Retry-After 헤더 값)
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super("시도 횟수가 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.", STATUS, ERROR_CODE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
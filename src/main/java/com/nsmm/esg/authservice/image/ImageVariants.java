@@ -0,0 +1,158 @@
+/**
+ * 프로필 이미지 변환 유틸리티
+ * - 디코딩 → 정사각형 크롭/축소 → JPEG 인코딩
+ * - 변형 이미지 크기와 저장 키 규칙 정의
+ */
+package com.nsmm.esg.authservice.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ImageVariants {
+
+    // 생성할 변형 이미지 한 변 크기 (px)
+    public static final List<Integer> SIZES = List.of(64, 128, 512);
+
+    // 가장 큰 변형 크기
+    private static final int MAX_SIZE = 512;
+
+    // 디코딩 허용 최대 픽셀 수 (압축 폭탄 방지)
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 원본 키에 대한 변형 이미지 접두 키 (확장자 제거)
+     * - profile-images/abc.png → profile-images/abc
+     */
+    public static String variantPrefix(String originalKey) {
+        int dot = originalKey.lastIndexOf('.');
+        int slash = originalKey.lastIndexOf('/');
+        return dot > slash ? originalKey.substring(0, dot) : originalKey;
+    }
+
+    /**
+     * 크기별 변형 이미지 키
+     */
+    public static String variantKey(String variantPrefix, int size) {
+        return variantPrefix + "/" + size + ".jpg";
+    }
+
+    /**
+     * 변형 이미지 기준 URL로 크기별 URL 목록 생성
+     * @return 크기(문자열) → URL, 기준 URL이 없으면 null
+     */
+    public static Map<String, String> variantUrls(String variantBaseUrl) {
+        if (variantBaseUrl == null) {
+            return null;
+        }
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (int size : SIZES) {
+            urls.put(String.valueOf(size), variantKey(variantBaseUrl, size));
+        }
+        return urls;
+    }
+
+    /**
+     * 이미지 디코딩
+     * - 픽셀 수 상한을 넘으면 거부
+     * - 원본이 가장 큰 변형보다 훨씬 크면 서브샘플링으로 디코딩 비용과 메모리 절감
+     */
+    public static BufferedImage decode(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInput == null) {
+                throw new IOException("이미지 스트림을 열 수 없습니다.");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.min(width, height) / (MAX_SIZE * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가운데 정사각형으로 자른 뒤 size x size로 축소
+     * - 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소
+     */
+    public static BufferedImage resizeSquare(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage current = source.getSubimage(
+                (source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+
+        int currentSize = side;
+        do {
+            currentSize = Math.max(size, currentSize / 2);
+            current = draw(current, currentSize);
+        } while (currentSize > size);
+        return current;
+    }
+
+    /**
+     * JPEG 인코딩 (투명 영역은 흰색 배경)
+     */
+    public static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(16 * 1024);
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int size) {
+        BufferedImage target = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, size, size);
+            graphics.drawImage(source, 0, 0, size, size, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
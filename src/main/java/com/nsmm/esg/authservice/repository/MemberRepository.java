@@ -1,15 +1,104 @@
 package com.nsmm.esg.authservice.repository;
 
+import com.nsmm.esg.authservice.dto.CompanySuggestion;
+import com.nsmm.esg.authservice.dto.MemberCredentials;
+import com.nsmm.esg.authservice.dto.MemberResponse;
 import com.nsmm.esg.authservice.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+// 선언한 조회 메서드도 읽기 전용 트랜잭션으로 실행 (복제본 라우팅 대상), 쓰기 메서드는 메서드 단위로 재정의
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+@Transactional(readOnly = true)
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberSearchRepository {
 
     // 데이터베이스에서 이메일 찾기
     Optional<Member> findByEmail(String email);
 
+    // 엔티티 로딩 없이 이메일 존재 여부만 확인
+    boolean existsByEmail(String email);
+
+    // 일괄 가입 중복 확인용 (IN 조건, 호출 측에서 청크 단위로 나눠 호출)
+    @Query("select m.email from Member m where m.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 이메일 인덱스 구축용 스트리밍 조회 (트랜잭션 안에서 소비 후 close 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.email from Member m")
+    Stream<String> streamAllEmails();
+
+    // 회사명 자동완성 인덱스 구축용 (회사명별 회원 수, 트랜잭션 안에서 소비 후 close 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.nsmm.esg.authservice.dto.CompanySuggestion(m.companyName, count(m)) "
+            + "from Member m where m.companyName is not null group by m.companyName")
+    Stream<CompanySuggestion> streamCompanyCounts();
+
+    // 로그인용 프로젝션 (id, 비밀번호 해시만 조회)
+    @Query("select new com.nsmm.esg.authservice.dto.MemberCredentials(m.id, m.password) "
+            + "from Member m where m.email = :email")
+    Optional<MemberCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    // 비밀번호 변경용 프로젝션 (id, 비밀번호 해시만 조회)
+    @Query("select new com.nsmm.esg.authservice.dto.MemberCredentials(m.id, m.password) "
+            + "from Member m where m.id = :id")
+    Optional<MemberCredentials> findCredentialsById(@Param("id") Long id);
+
+    // 회원 정보 응답용 프로젝션 (비밀번호 제외)
+    @Query("select new com.nsmm.esg.authservice.dto.MemberResponse("
+            + "m.id, m.name, m.email, m.phoneNumber, m.companyName, m.position, m.profileImageUrl, "
+            + "m.profileImageVariantBaseUrl) "
+            + "from Member m where m.id = :id")
+    Optional<MemberResponse> findMemberResponseById(@Param("id") Long id);
+
+    // 일괄 조회용 프로젝션 (IN 조건, 호출 측에서 청크 단위로 나눠 호출)
+    @Query("select new com.nsmm.esg.authservice.dto.MemberResponse("
+            + "m.id, m.name, m.email, m.phoneNumber, m.companyName, m.position, m.profileImageUrl, "
+            + "m.profileImageVariantBaseUrl) "
+            + "from Member m where m.id in :ids")
+    List<MemberResponse> findMemberResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 프로필 이미지 URL만 조회
+    @Query("select m.profileImageUrl from Member m where m.id = :id")
+    Optional<String> findProfileImageUrlById(@Param("id") Long id);
+
+    // 프로필 이미지 변경용 이전 URL 조회 (행 잠금, 쓰기 트랜잭션 안에서만 호출하므로 항상 primary)
+    // - 같은 회원의 동시 변경을 직렬화하여 이전 이미지 참조를 정확히 한 번만 해제
+    @Transactional
+    @Query(value = "select profile_image_url from member where id = :id for update", nativeQuery = true)
+    Optional<String> findProfileImageUrlByIdForUpdate(@Param("id") Long id);
+
+    // 프로필 이미지 URL만 갱신 (엔티티 로딩 없이 단건 UPDATE, 이전 이미지의 변형 정보는 초기화)
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.profileImageUrl = :imageUrl, m.profileImageVariantBaseUrl = null "
+            + "where m.id = :id")
+    int updateProfileImageUrl(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+
+    // 변형 이미지 기준 URL 갱신 (프로필 이미지가 그대로일 때만)
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.profileImageVariantBaseUrl = :variantBaseUrl "
+            + "where m.id = :id and m.profileImageUrl = :imageUrl")
+    int updateProfileImageVariants(@Param("id") Long id,
+                                   @Param("imageUrl") String imageUrl,
+                                   @Param("variantBaseUrl") String variantBaseUrl);
+
+    // 비밀번호 해시만 갱신 (엔티티 로딩 없이 단건 UPDATE)
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.password = :password where m.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String encodedPassword);
+
 }
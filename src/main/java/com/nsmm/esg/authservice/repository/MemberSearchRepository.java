@@ -0,0 +1,28 @@
+package com.nsmm.esg.authservice.repository;
+
+import com.nsmm.esg.authservice.dto.MemberSummary;
+
+import java.util.List;
+
+/**
+ * 회원 검색 (MemberRepository 사용자 정의 fragment)
+ * - 조건: 회사명 일치, 직책 일치, 이름 접두어 (모두 선택)
+ * - 정렬: 이름, 회원 ID 순 / 페이지: 직전 페이지 마지막 행(이름, ID) 다음부터 조회하는 keyset 방식
+ */
+public interface MemberSearchRepository {
+
+    /**
+     * @param companyName 회사명 (null 이면 조건 없음)
+     * @param namePrefix 이름 접두어 (null 이면 조건 없음)
+     * @param position 직책 (null 이면 조건 없음)
+     * @param after 직전 페이지의 마지막 행 (null 이면 첫 페이지)
+     * @param limit 최대 조회 수
+     */
+    List<MemberSummary> search(String companyName, String namePrefix, String position, SearchKey after, int limit);
+
+    /**
+     * keyset 페이지 위치 (정렬 키)
+     */
+    record SearchKey(String name, long id) {
+    }
+}
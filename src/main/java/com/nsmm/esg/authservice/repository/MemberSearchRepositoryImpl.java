@@ -0,0 +1,63 @@
+package com.nsmm.esg.authservice.repository;
+
+import com.nsmm.esg.authservice.dto.MemberSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 회원 검색 구현 (조건에 따라 JPQL 조립)
+ * - 조건 조합별로 (company_name, name, id), (position, name, id), (name, id) 인덱스를 타도록
+ *   항상 name, id 순으로 정렬하고 keyset 조건도 같은 컬럼으로 작성
+ * - keyset 조건은 name >= :lastName 을 앞에 두어 인덱스 범위 조회로 시작 위치를 찾음 (OFFSET 미사용)
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberSearchRepositoryImpl implements MemberSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<MemberSummary> search(String companyName, String namePrefix, String position, SearchKey after, int limit) {
+        StringBuilder jpql = new StringBuilder("select new com.nsmm.esg.authservice.dto.MemberSummary("
+                + "m.id, m.name, m.companyName, m.position, m.profileImageUrl) from Member m where 1 = 1");
+        if (companyName != null) {
+            jpql.append(" and m.companyName = :companyName");
+        }
+        if (position != null) {
+            jpql.append(" and m.position = :position");
+        }
+        if (namePrefix != null) {
+            jpql.append(" and m.name like :namePattern escape '!'");
+        }
+        if (after != null) {
+            jpql.append(" and m.name >= :lastName and (m.name > :lastName or m.id > :lastId)");
+        }
+        jpql.append(" order by m.name, m.id");
+
+        TypedQuery<MemberSummary> query = entityManager.createQuery(jpql.toString(), MemberSummary.class)
+                .setMaxResults(limit);
+        if (companyName != null) {
+            query.setParameter("companyName", companyName);
+        }
+        if (position != null) {
+            query.setParameter("position", position);
+        }
+        if (namePrefix != null) {
+            query.setParameter("namePattern", escapeLike(namePrefix) + "%");
+        }
+        if (after != null) {
+            query.setParameter("lastName", after.name());
+            query.setParameter("lastId", after.id());
+        }
+        return query.getResultList();
+    }
+
+    // LIKE 특수문자(%, _)를 문자 그대로 비교하도록 이스케이프 (백슬래시는 DB마다 문자열 해석이 달라 '!' 사용)
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
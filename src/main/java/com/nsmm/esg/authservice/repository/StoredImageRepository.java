@@ -0,0 +1,27 @@
+package com.nsmm.esg.authservice.repository;
+
+import com.nsmm.esg.authservice.entity.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+    // 참조 등록 (없으면 참조 수 1로 생성, 있으면 1 증가)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into stored_image (digest, object_key, ref_count) values (:digest, :objectKey, 1) "
+            + "on duplicate key update ref_count = ref_count + 1", nativeQuery = true)
+    int acquire(@Param("digest") String digest, @Param("objectKey") String objectKey);
+
+    // 참조 해제 (참조 수 1 감소)
+    @Transactional
+    @Modifying
+    @Query("update StoredImage s set s.refCount = s.refCount - 1 where s.digest = :digest and s.refCount > 0")
+    int release(@Param("digest") String digest);
+
+}
@@ -0,0 +1,323 @@
+/**
+ * 회사명 자동완성 인덱스 (접두어 트라이)
+ * - 정규화한 회사명(공백 정리, 소문자)을 문자 단위 트라이에 저장하고, 노드마다 회원 수 상위 k개 회사를 미리 유지
+ * - 조회는 접두어 길이만큼 노드를 따라간 뒤 해당 노드의 상위 목록을 복사하므로 DB 조회 없이 접두어 길이에 비례하는 비용
+ * - 기동 시 회사명별 회원 수를 스트리밍하여 구축, 회원가입 시마다 증가 반영 (회원 수는 증가만 하므로 상위 목록이 정확히 유지됨)
+ * - 구축은 새 트라이에 잠금 없이 진행한 뒤 교체하고, 구축 중 들어온 가입은 기록해 두었다가 교체 직전에 새 트라이에 다시 반영
+ *   (집계 조회 이후 커밋된 가입은 집계에 없으므로 한 번만 반영됨)
+ * - 구축 완료 전에는 빈 결과로 응답
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.dto.CompanySuggestion;
+import com.nsmm.esg.authservice.repository.MemberRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class CompanyNameIndex {
+
+    // 메모리 추정용 객체 크기 (64비트 JVM, compressed oops 기준 근사치)
+    private static final long NODE_BYTES = 32;
+    private static final long ENTRY_BYTES = 24;
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long STRING_BYTES = 40;
+
+    // 말단 노드는 자식 배열을 공유
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong((Entry entry) -> entry.memberCount)
+            .reversed()
+            .thenComparing(entry -> entry.key);
+
+    private final MemberRepository memberRepository;
+    private final int topK;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile Trie trie = new Trie();
+    private volatile boolean ready;
+
+    // 구축 중 들어온 가입의 회사명 (구축 중이 아니면 null, 쓰기 잠금 안에서만 접근)
+    private List<String> pendingAdds;
+
+    public CompanyNameIndex(MemberRepository memberRepository,
+                            @Value("${auth.company-index.top-k:10}") int topK,
+                            ObjectProvider<MeterRegistry> registryProvider) {
+        this.memberRepository = memberRepository;
+        this.topK = topK;
+
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("auth.company.index.size", this, index -> index.trie.companyCount)
+                .description("회사명 자동완성 인덱스의 회사 수")
+                .register(registry);
+        Gauge.builder("auth.company.index.memory", this, index -> index.trie.estimatedBytes)
+                .description("회사명 자동완성 인덱스 메모리 사용량 (추정치)")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * 회사명 정규화 (앞뒤 공백 제거, 연속 공백을 하나로, 소문자 변환)
+     * @return 비어 있으면 null
+     */
+    static String normalize(String companyName) {
+        if (companyName == null) {
+            return null;
+        }
+        String normalized = companyName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * 기동 완료 후 회사명별 회원 수로 인덱스 구축
+     * - 새 트라이는 이 스레드만 접근하므로 잠금 없이 채우고, 구축 중에는 기존 트라이로 계속 응답
+     * - 가입 기록은 집계 조회 전에 시작하므로, 집계에 포함되지 않은 가입은 교체 직전에 한 번만 다시 반영
+     *   (커밋 직후 add 호출 전의 짧은 순간이 조회 시작과 겹친 가입만 두 번 셀 수 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingAdds = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie built = new Trie();
+        try (Stream<CompanySuggestion> counts = memberRepository.streamCompanyCounts()) {
+            for (CompanySuggestion company : (Iterable<CompanySuggestion>) counts::iterator) {
+                String key = normalize(company.getCompanyName());
+                if (key != null) {
+                    built.add(key, company.getCompanyName().trim(), company.getMemberCount());
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingAdds = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            replayed = pendingAdds.size();
+            for (String companyName : pendingAdds) {
+                built.add(normalize(companyName), companyName.trim(), 1);
+            }
+            pendingAdds = null;
+            trie = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        this.ready = true;
+        log.info("회사명 인덱스 구축 완료: 회사={}개, 구축 중 가입 반영={}건, 추정 메모리={}KB, 소요={}ms",
+                built.companyCount, replayed, built.estimatedBytes / 1024, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 회원가입 반영 (회사명이 없으면 무시)
+     */
+    public void add(String companyName) {
+        String key = normalize(companyName);
+        if (key == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            trie.add(key, companyName.trim(), 1);
+            if (pendingAdds != null) {
+                pendingAdds.add(companyName);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 회사명을 회원 수 순으로 조회
+     * @param prefix 입력 중인 회사명
+     * @param limit 최대 개수 (top-k 를 넘으면 top-k 개)
+     */
+    public List<CompanySuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (!ready || key == null || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = trie.root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            int count = Math.min(limit, node.topSize);
+            List<CompanySuggestion> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Entry entry = node.top[i];
+                suggestions.add(new CompanySuggestion(entry.displayName, entry.memberCount));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 트라이 루트와 메트릭용 통계 (구축 중인 새 트라이는 구축 스레드만, 교체 후에는 쓰기 잠금 안에서만 갱신)
+     */
+    private final class Trie {
+        private final Node root = new Node();
+        private volatile int companyCount;
+        private volatile long estimatedBytes = NODE_BYTES;
+
+        void add(String key, String displayName, long memberCount) {
+            // 경로를 만들면서 노드 목록 수집 (루트 포함)
+            Node[] path = new Node[key.length() + 1];
+            Node node = root;
+            path[0] = node;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i), this);
+                path[i + 1] = node;
+            }
+
+            Entry entry = node.entry;
+            if (entry == null) {
+                entry = new Entry(key, displayName);
+                node.entry = entry;
+                companyCount++;
+                estimatedBytes += ENTRY_BYTES + (STRING_BYTES + key.length()) + (STRING_BYTES + displayName.length());
+            }
+            entry.memberCount += memberCount;
+
+            for (Node visited : path) {
+                visited.offer(entry, this);
+            }
+        }
+    }
+
+    /**
+     * 회사 (트라이 말단 노드에 연결)
+     */
+    private static final class Entry {
+        private final String key;
+        private final String displayName; // 처음 등록된 표기
+        private long memberCount;
+
+        Entry(String key, String displayName) {
+            this.key = key;
+            this.displayName = displayName;
+        }
+    }
+
+    /**
+     * 트라이 노드
+     * - 자식은 문자 순으로 정렬된 배열에 보관하고 이진 탐색 (Map 대비 메모리 절약)
+     * - top: 이 노드 아래 회사 중 회원 수 상위 k개 (회원 수 내림차순, 같으면 이름순), 앞의 topSize 개만 유효
+     */
+    private final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Entry entry;
+        private Entry[] top;
+        private int topSize;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char c, Trie trie) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            newKeys[insertAt] = c;
+
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newChildren[insertAt] = child;
+
+            keys = newKeys;
+            children = newChildren;
+            // 새 노드 + 자식 배열 한 칸씩 증가 (char 2바이트, 참조 4바이트)
+            trie.estimatedBytes += NODE_BYTES + 2 * ARRAY_HEADER_BYTES + 6;
+            return child;
+        }
+
+        /**
+         * 회원 수가 늘어난 회사를 상위 목록에 반영
+         */
+        void offer(Entry entry, Trie trie) {
+            int position = -1;
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == entry) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                if (topSize < topK) {
+                    ensureTopCapacity(trie);
+                    position = topSize++;
+                } else if (RANKING.compare(entry, top[topSize - 1]) < 0) {
+                    position = topSize - 1;
+                } else {
+                    return;
+                }
+                top[position] = entry;
+            }
+            // 회원 수가 늘기만 하므로 앞쪽으로만 이동
+            while (position > 0 && RANKING.compare(top[position], top[position - 1]) < 0) {
+                Entry previous = top[position - 1];
+                top[position - 1] = top[position];
+                top[position] = previous;
+                position--;
+            }
+        }
+
+        // 긴 회사명의 말단 경로는 회사가 하나뿐이므로 상위 목록 배열을 필요한 만큼만 늘림
+        private void ensureTopCapacity(Trie trie) {
+            int capacity = top == null ? 0 : top.length;
+            if (topSize < capacity) {
+                return;
+            }
+            int newCapacity = Math.min(topK, Math.max(1, capacity * 2));
+            top = top == null ? new Entry[newCapacity] : Arrays.copyOf(top, newCapacity);
+            trie.estimatedBytes += (capacity == 0 ? ARRAY_HEADER_BYTES : 0) + 4L * (newCapacity - capacity);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * 이메일 존재 여부 인덱스 (블룸 필터)
+ * - 기동 시 member 테이블의 이메일을 스트리밍하여 구축, 회원가입 시마다 추가
+ * - "확실히 없음"이면 DB 조회 생략, "있을 수 있음"일 때만 DB 조회
+ * - 구축 완료 전에는 항상 "있을 수 있음"으로 응답하여 DB로 위임
+ * - 구축은 새 필터에 따로 진행한 뒤 교체하고, 기동 후 교체 전까지 들어온 가입은 기록해 두었다가 교체 직전에 새 필터에 다시 반영
+ *   (복제 지연으로 조회 결과에 빠진 가입도 반영됨)
+ * - 인스턴스마다 따로 유지하므로 다른 인스턴스에서 가입한 이메일은 이 인스턴스의 필터에 들어오지 않음
+ *   → 재기동 전까지 "확실히 없음"으로 응답할 수 있음 (가입은 unique 제약조건으로 막히지만, 이메일 사용 가능 여부 조회는 틀릴 수 있음)
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class EmailExistenceIndex {
+
+    private final MemberRepository memberRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Counter absentCounter;
+    private final Counter maybeCounter;
+
+    // 가입 기록과 필터 교체를 직렬화 (조회는 잠금 없음)
+    private final Lock lock = new ReentrantLock();
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready;
+
+    // 구축 완료 전까지 들어온 가입 이메일 (구축 중이 아니면 null, 잠금 안에서만 접근)
+    private List<String> pendingAdds = new ArrayList<>();
+
+    public EmailExistenceIndex(MemberRepository memberRepository,
+                               @Value("${auth.email-index.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${auth.email-index.false-positive-rate:0.01}") double falsePositiveRate,
+                               ObjectProvider<MeterRegistry> registryProvider) {
+        this.memberRepository = memberRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.absentCounter = Counter.builder("auth.email.index.lookups")
+                .description("이메일 인덱스 조회 수")
+                .tag("result", "absent")
+                .register(registry);
+        this.maybeCounter = Counter.builder("auth.email.index.lookups")
+                .description("이메일 인덱스 조회 수")
+                .tag("result", "maybe")
+                .register(registry);
+    }
+
+    /**
+     * 이메일 정규화 (앞뒤 공백 제거, 소문자 변환)
+     */
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 기동 완료 후 member 테이블 이메일로 필터 구축
+     * - 새 필터는 이 스레드만 채우고, 구축 중에는 기존 필터가 계속 가입을 받음
+     * - 가입 기록은 첫 조회(count) 전부터 유지하므로, 조회 결과에 없는 가입도 교체 직전에 새 필터에 다시 반영
+     *   (블룸 필터는 같은 값을 여러 번 넣어도 결과가 같으므로 중복 반영은 문제없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        long start = System.currentTimeMillis();
+        lock.lock();
+        try {
+            if (pendingAdds == null) {
+                pendingAdds = new ArrayList<>();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        BloomFilter built;
+        long loaded = 0;
+        try {
+            long memberCount = memberRepository.count();
+            built = new BloomFilter(Math.max(expectedInsertions, memberCount * 2), falsePositiveRate);
+            try (Stream<String> emails = memberRepository.streamAllEmails()) {
+                for (String email : (Iterable<String>) emails::iterator) {
+                    built.put(normalize(email));
+                    loaded++;
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pendingAdds = null;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.lock();
+        try {
+            replayed = pendingAdds.size();
+            for (String email : pendingAdds) {
+                built.put(normalize(email));
+            }
+            pendingAdds = null;
+            this.filter = built;
+        } finally {
+            lock.unlock();
+        }
+        this.ready = true;
+        log.info("이메일 인덱스 구축 완료: 이메일={}건, 구축 중 가입 반영={}건, 소요={}ms",
+                loaded, replayed, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 가입된 이메일일 가능성이 있는지 여부
+     * @return false이면 확실히 가입되지 않은 이메일
+     */
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        boolean maybe = filter.mightContain(normalize(email));
+        (maybe ? maybeCounter : absentCounter).increment();
+        return maybe;
+    }
+
+    /**
+     * 신규 가입 이메일 추가
+     */
+    public void add(String email) {
+        lock.lock();
+        try {
+            filter.put(normalize(email));
+            if (pendingAdds != null) {
+                pendingAdds.add(email);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 락 없이 동시 추가 가능한 블룸 필터
+     * - 비트 배열은 AtomicLongArray, 해시 함수는 두 개의 64비트 해시를 조합(double hashing)
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(expectedInsertions, 1);
+            long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min((bits + 63) / 64, Integer.MAX_VALUE);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = (long) wordCount * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        }
+
+        void put(String value) {
+            long h1 = hash(value);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+        }
+
+        boolean mightContain(String value) {
+            long h1 = hash(value);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a + 비트 혼합
+        private static long hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+            z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return z ^ (z >>> 33);
+        }
+    }
+}
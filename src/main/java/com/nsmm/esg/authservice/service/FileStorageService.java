@@ -1,24 +1,71 @@
 package com.nsmm.esg.authservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nsmm.esg.authservice.dto.ProfileImageUploadUrlResponse;
+import com.nsmm.esg.authservice.entity.StoredImage;
 import com.nsmm.esg.authservice.exception.FileStorageException;
-import lombok.RequiredArgsConstructor;
+import com.nsmm.esg.authservice.exception.InvalidInputException;
+import com.nsmm.esg.authservice.exception.ServiceOverloadedException;
+import com.nsmm.esg.authservice.repository.StoredImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileStorageService {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final StoredImageRepository storedImageRepository;
+
+    // 저장된 것으로 확인된 내용 주소 객체 (다이제스트 → 키), 같은 이미지 재업로드 시 DB 조회 생략
+    private final Cache<String, String> knownObjects = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build();
+
+    private final Counter dedupCounter;
+    private final Counter rejectedCounter;
+
+    // AwsConfig.s3TransferExecutor
+    private final ExecutorService s3TransferExecutor;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -26,46 +73,389 @@ public class FileStorageService {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // presigned URL 유효 시간 (초)
+    @Value("${cloud.aws.s3.presign.expiration-seconds:300}")
+    private long presignExpirationSeconds;
+
+    // 클라이언트 직접 업로드 최대 크기 (바이트)
+    @Value("${cloud.aws.s3.presign.max-bytes:10485760}")
+    private long presignMaxBytes;
+
     private static final String FOLDER = "profile-images/";
 
+    // 내용 주소 기반 원본 키 형식
+    private static final Pattern CONTENT_ADDRESSED_KEY = Pattern.compile("profile-images/([0-9a-f]{64})\\.[a-z]+");
+
+    // 키가 내용으로 고정되는 객체의 캐시 정책 (1년, 변경 없음)
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // 클라이언트 직접 업로드 경로 (회원별 하위 경로)
+    private static final String UPLOAD_FOLDER = FOLDER + "uploads/";
+
+    // 허용 콘텐츠 타입 → 확장자
+    private static final Map<String, String> IMAGE_EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif"
+    );
+
+    public FileStorageService(S3Client s3Client,
+                              S3AsyncClient s3AsyncClient,
+                              ExecutorService s3TransferExecutor,
+                              S3Presigner s3Presigner,
+                              StoredImageRepository storedImageRepository,
+                              ObjectProvider<MeterRegistry> registryProvider) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3TransferExecutor = s3TransferExecutor;
+        this.s3Presigner = s3Presigner;
+        this.storedImageRepository = storedImageRepository;
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.dedupCounter = Counter.builder("auth.image.upload.deduplicated")
+                .description("동일 내용이 이미 저장되어 생략된 업로드 수")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("auth.image.upload.rejected")
+                .description("S3 전송 실행기 포화로 거부된 업로드 수")
+                .register(registry);
+    }
+
     /**
-     * S3에 프로필 이미지 업로드
+     * S3에 프로필 이미지 비동기 업로드 (내용 주소 기반)
+     * - 업로드 파일(서버에 이미 버퍼링됨)의 SHA-256을 키로 사용: profile-images/{sha256}{ext}
+     * - 같은 내용이 이미 저장되어 있으면 PUT 생략
+     * - 새 객체는 메모리에 모으지 않고 S3로 바로 스트리밍 (큰 파일은 멀티파트)
+     * - 키가 내용으로 고정되므로 영구 캐시 가능한 Cache-Control 설정
+     * - 전송 실행기가 포화되면 호출 스레드에서 대신 실행하지 않고 ServiceOverloadedException(503)으로 실패
      *
      * @param file Multipart 업로드 파일
      * @return 전체 URL (https://bucket.s3.region.amazonaws.com/key)
      */
-    public String store(MultipartFile file) {
+    public CompletableFuture<String> storeAsync(MultipartFile file) {
         log.debug("S3 이미지 업로드 시도: 원본명={}, 크기={}KB", file.getOriginalFilename(), file.getSize() / 1024);
 
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename == null || originalFilename.isEmpty()) {
+            throw new FileStorageException("파일명이 비어 있습니다.");
+        }
+
+        String ext = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
+        if (!isValidImageExtension(ext)) {
+            throw new FileStorageException("지원하지 않는 이미지 형식입니다. 지원 형식: .jpg, .jpeg, .png, .gif");
+        }
+
+        String digest = digest(file);
+        String storedKey = findStoredKey(digest);
+        if (storedKey != null) {
+            dedupCounter.increment();
+            log.info("✅ 동일 이미지가 이미 저장되어 있어 업로드 생략: key={}", storedKey);
+            return CompletableFuture.completedFuture(urlFor(storedKey));
+        }
+
+        String key = FOLDER + digest + ext;
+
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(file.getContentType())
+                .contentLength(file.getSize())
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build();
+
+        InputStream inputStream;
+        try {
+            inputStream = file.getInputStream();
+        } catch (IOException e) {
+            log.error("❌ S3 업로드 실패: {}", e.getMessage(), e);
+            throw new FileStorageException("이미지 업로드 실패: " + e.getMessage(), e);
+        }
+
+        AsyncRequestBody body = AsyncRequestBody.fromInputStream(inputStream, file.getSize(), s3TransferExecutor);
+        CompletableFuture<?> put;
         try {
-            String originalFilename = file.getOriginalFilename();
-            if (originalFilename == null || originalFilename.isEmpty()) {
-                throw new FileStorageException("파일명이 비어 있습니다.");
+            put = s3AsyncClient.putObject(putRequest, body);
+        } catch (RejectedExecutionException e) {
+            closeQuietly(inputStream);
+            return CompletableFuture.failedFuture(transferRejected(key));
+        }
+
+        return put
+                // 스트림 닫기는 가벼우므로 완료한 스레드에서 처리 (후처리가 거부되어도 닫히도록)
+                .whenComplete((response, ex) -> closeQuietly(inputStream))
+                .handleAsync((response, ex) -> {
+                    if (ex != null) {
+                        if (isRejected(ex)) {
+                            throw transferRejected(key);
+                        }
+                        log.error("❌ S3 업로드 실패: key={}, 원인={}", key, ex.getMessage(), ex);
+                        throw new FileStorageException("이미지 업로드 실패: " + ex.getMessage(), ex);
+                    }
+                    knownObjects.put(digest, key);
+                    String url = urlFor(key);
+                    log.info("✅ S3 파일 업로드 성공: key={}, url={}", key, url);
+                    return url;
+                }, s3TransferExecutor)
+                // 후처리 작업 자체가 거부된 경우도 503 으로 변환
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof RejectedExecutionException) {
+                        throw transferRejected(key);
+                    }
+                    throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                });
+    }
+
+    private ServiceOverloadedException transferRejected(String key) {
+        rejectedCounter.increment();
+        log.warn("S3 전송 실행기 포화로 업로드 거부: key={}", key);
+        return new ServiceOverloadedException("이미지 업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // SDK 가 본문 공급 작업 거부를 다른 예외로 감싸 전달하므로 원인 전체를 확인
+    private static boolean isRejected(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RejectedExecutionException) {
+                return true;
             }
+        }
+        return false;
+    }
+
+    /**
+     * 내용 주소 기반 이미지의 참조 등록 (회원이 이 이미지를 프로필로 사용하기 시작)
+     * - 내용 주소 기반 키가 아니면(이전 UUID 키, 직접 업로드 키) 무시
+     */
+    public void retain(String url) {
+        String key = keyOf(url);
+        String digest = contentDigestOf(key);
+        if (digest != null) {
+            storedImageRepository.acquire(digest, key);
+            knownObjects.put(digest, key);
+        }
+    }
+
+    /**
+     * 내용 주소 기반 이미지의 참조 해제 (회원이 다른 이미지로 변경)
+     * - 참조 수가 0이 된 객체는 삭제하지 않고 남겨 둠 (정리는 별도 작업)
+     */
+    public void release(String url) {
+        if (url == null || !url.startsWith(urlFor(""))) {
+            return;
+        }
+        String digest = contentDigestOf(keyOf(url));
+        if (digest != null) {
+            storedImageRepository.release(digest);
+        }
+    }
 
-            String ext = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
-            if (!isValidImageExtension(ext)) {
-                throw new FileStorageException("지원하지 않는 이미지 형식입니다. 지원 형식: .jpg, .jpeg, .png, .gif");
+    /**
+     * 이미 저장된 동일 내용 객체의 키 조회 (로컬 인덱스 → stored_image 테이블)
+     * @return 없으면 null
+     */
+    private String findStoredKey(String digest) {
+        String key = knownObjects.getIfPresent(digest);
+        if (key != null) {
+            return key;
+        }
+        key = storedImageRepository.findById(digest)
+                .map(StoredImage::getObjectKey)
+                .orElse(null);
+        if (key != null) {
+            knownObjects.put(digest, key);
+        }
+        return key;
+    }
+
+    /**
+     * 키가 profile-images/{sha256}.{ext} 형식이면 다이제스트 반환
+     * @return 내용 주소 기반 키가 아니면 null
+     */
+    private static String contentDigestOf(String key) {
+        Matcher matcher = CONTENT_ADDRESSED_KEY.matcher(key);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static String digest(MultipartFile file) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), messageDigest)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
             }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("❌ 이미지 해시 계산 실패: {}", e.getMessage(), e);
+            throw new FileStorageException("이미지 업로드 실패: " + e.getMessage(), e);
+        }
+    }
 
-            String key = FOLDER + UUID.randomUUID() + ext;
+    /**
+     * 객체 존재 여부 (HEAD)
+     */
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 클라이언트 직접 업로드용 presigned PUT URL 발급
+     * - 콘텐츠 타입과 크기를 서명에 포함하여 다른 타입/크기로는 업로드 불가
+     *
+     * @param memberId 회원 ID (업로드 키 경로에 포함)
+     * @param contentType 업로드할 이미지 콘텐츠 타입
+     * @param contentLength 업로드할 파일 크기 (바이트)
+     */
+    public ProfileImageUploadUrlResponse presignUpload(Long memberId, String contentType, Long contentLength) {
+        String ext = contentType != null ? IMAGE_EXTENSIONS.get(contentType.toLowerCase()) : null;
+        if (ext == null) {
+            throw new InvalidInputException("contentType", "지원하지 않는 이미지 형식입니다. 지원 형식: image/jpeg, image/png, image/gif");
+        }
+        if (contentLength == null || contentLength <= 0 || contentLength > presignMaxBytes) {
+            throw new InvalidInputException("contentLength", "파일 크기는 1바이트 이상 " + presignMaxBytes + "바이트 이하여야 합니다.");
+        }
+
+        String key = uploadFolder(memberId) + UUID.randomUUID() + ext;
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType.toLowerCase())
+                .contentLength(contentLength)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(presignExpirationSeconds))
+                .putObjectRequest(putRequest)
+                .build());
+
+        log.debug("presigned 업로드 URL 발급: 회원ID={}, key={}", memberId, key);
+        return new ProfileImageUploadUrlResponse(
+                presigned.url().toString(), key, presigned.expiration(), presigned.signedHeaders());
+    }
+
+    /**
+     * 클라이언트가 직접 업로드한 객체 검증
+     * - 본인 업로드 경로인지, 크기/타입이 허용 범위인지(HEAD), 실제 이미지인지(앞부분 매직 바이트) 확인
+     * - 이미지가 아니면 객체를 삭제
+     *
+     * @return 검증된 객체의 전체 URL
+     */
+    public String confirmUpload(Long memberId, String key) {
+        if (key == null || !key.startsWith(uploadFolder(memberId)) || key.contains("..")) {
+            throw new InvalidInputException("key", "업로드 키가 유효하지 않습니다.");
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new InvalidInputException("key", "업로드된 파일이 없습니다.");
+        }
+
+        String contentType = head.contentType() != null ? head.contentType().toLowerCase() : null;
+        if (head.contentLength() == null || head.contentLength() > presignMaxBytes
+                || contentType == null || !IMAGE_EXTENSIONS.containsKey(contentType)) {
+            deleteQuietly(key);
+            throw new InvalidInputException("file", "허용되지 않는 파일입니다.");
+        }
+
+        byte[] header = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .range("bytes=0-11")
+                        .build())
+                .asByteArray();
+        if (!contentType.equals(detectImageContentType(header))) {
+            deleteQuietly(key);
+            throw new InvalidInputException("file", "이미지 파일이 아니거나 형식이 일치하지 않습니다.");
+        }
+
+        log.info("✅ presigned 업로드 확인: 회원ID={}, key={}", memberId, key);
+        return urlFor(key);
+    }
 
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .build();
+    /**
+     * 파일 앞부분 매직 바이트로 이미지 콘텐츠 타입 판별
+     * @return 판별 불가 시 null
+     */
+    static String detectImageContentType(byte[] header) {
+        if (header.length >= 3
+                && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (header.length >= 8
+                && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+                && header[4] == 0x0D && header[5] == 0x0A && header[6] == 0x1A && header[7] == 0x0A) {
+            return "image/png";
+        }
+        if (header.length >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8'
+                && (header[4] == '7' || header[4] == '9') && header[5] == 'a') {
+            return "image/gif";
+        }
+        return null;
+    }
 
-            s3Client.putObject(putRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+    private String uploadFolder(Long memberId) {
+        return UPLOAD_FOLDER + memberId + "/";
+    }
 
-            String url = String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, key);
-            log.info("✅ S3 파일 업로드 성공: key={}, url={}", key, url);
+    private void deleteQuietly(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (Exception e) {
+            log.warn("S3 객체 삭제 실패: key={}, 원인={}", key, e.getMessage());
+        }
+    }
 
-            return url;
+    /**
+     * 작은 객체(변형 이미지 등) 동기 업로드
+     */
+    public void putBytes(String key, byte[] content, String contentType) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build();
+        s3Client.putObject(putRequest, RequestBody.fromBytes(content));
+        log.debug("S3 객체 업로드: key={}, 크기={}B", key, content.length);
+    }
 
+    /**
+     * 저장된 객체 읽기 스트림 (호출 측에서 close 필요)
+     */
+    public InputStream open(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+    }
+
+    /**
+     * 객체 키 → 공개 URL
+     */
+    public String urlFor(String key) {
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, key);
+    }
+
+    /**
+     * 공개 URL → 객체 키
+     * @throws FileStorageException 이 버킷의 URL이 아닌 경우
+     */
+    public String keyOf(String url) {
+        String prefix = urlFor("");
+        if (url == null || !url.startsWith(prefix)) {
+            throw new FileStorageException("저장소 URL이 아닙니다: " + url);
+        }
+        return url.substring(prefix.length());
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
         } catch (IOException e) {
-            log.error("❌ S3 업로드 실패: {}", e.getMessage(), e);
-            throw new FileStorageException("이미지 업로드 실패: " + e.getMessage(), e);
+            log.debug("업로드 스트림 닫기 실패: {}", e.getMessage());
         }
     }
 
@@ -75,4 +465,4 @@ public class FileStorageService {
                 extension.equals(".png") ||
                 extension.equals(".gif");
     }
-}
\ No newline at end of file
+}
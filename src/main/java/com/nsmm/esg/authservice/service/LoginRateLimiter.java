@@ -0,0 +1,91 @@
+/**
+ * 로그인 시도 횟수 제한 (무차별 대입 방지)
+ * - 클라이언트 IP별, 정규화한 이메일별 토큰 버킷을 각각 적용
+ * - DB 조회와 BCrypt 검증 전에 호출되어, 제한된 요청은 CPU/DB 비용 없이 429로 응답
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter emailLimiter;
+
+    private final Counter ipThrottledCounter;
+    private final Counter emailThrottledCounter;
+
+    public LoginRateLimiter(@Value("${auth.login-limit.enabled:true}") boolean enabled,
+                            @Value("${auth.login-limit.ip.capacity:100}") int ipCapacity,
+                            @Value("${auth.login-limit.ip.refill-per-minute:300}") int ipRefillPerMinute,
+                            @Value("${auth.login-limit.email.capacity:10}") int emailCapacity,
+                            @Value("${auth.login-limit.email.refill-per-minute:10}") int emailRefillPerMinute,
+                            @Value("${auth.login-limit.max-keys:100000}") int maxKeys,
+                            @Value("${auth.login-limit.idle-seconds:900}") long idleSeconds,
+                            @Value("${auth.login-limit.stripes:64}") int stripes,
+                            ObjectProvider<MeterRegistry> registryProvider) {
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketLimiter(ipCapacity, ipRefillPerMinute, maxKeys, idleSeconds, stripes);
+        this.emailLimiter = new TokenBucketLimiter(emailCapacity, emailRefillPerMinute, maxKeys, idleSeconds, stripes);
+
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.ipThrottledCounter = Counter.builder("auth.login.throttled")
+                .description("시도 횟수 제한으로 거부된 로그인 수")
+                .tag("key", "ip")
+                .register(registry);
+        this.emailThrottledCounter = Counter.builder("auth.login.throttled")
+                .description("시도 횟수 제한으로 거부된 로그인 수")
+                .tag("key", "email")
+                .register(registry);
+        Gauge.builder("auth.login.throttle.keys", ipLimiter, TokenBucketLimiter::size)
+                .description("보관 중인 로그인 제한 버킷 수")
+                .tag("key", "ip")
+                .register(registry);
+        Gauge.builder("auth.login.throttle.keys", emailLimiter, TokenBucketLimiter::size)
+                .description("보관 중인 로그인 제한 버킷 수")
+                .tag("key", "email")
+                .register(registry);
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인 (허용되면 토큰 1개씩 사용)
+     * @param email 로그인 이메일 (null 이면 IP 제한만 적용)
+     * @param clientIp 클라이언트 IP
+     * @throws TooManyRequestsException 제한을 넘은 경우
+     */
+    public void check(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+
+        long waitNanos = ipLimiter.tryAcquire(clientIp, now);
+        if (waitNanos > 0) {
+            ipThrottledCounter.increment();
+            throw new TooManyRequestsException(toRetryAfterSeconds(waitNanos));
+        }
+
+        if (email != null && !email.isBlank()) {
+            waitNanos = emailLimiter.tryAcquire(EmailExistenceIndex.normalize(email), now);
+            if (waitNanos > 0) {
+                emailThrottledCounter.increment();
+                throw new TooManyRequestsException(toRetryAfterSeconds(waitNanos));
+            }
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
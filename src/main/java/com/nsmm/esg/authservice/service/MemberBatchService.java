@@ -0,0 +1,134 @@
+/**
+ * 회원 일괄 조회 서비스 (서비스 간 호출용)
+ * - 다른 서비스가 회원 이름, 회사 등을 한 건씩 조회하던 N+1 호출을 한 번의 요청으로 대체
+ * - 프로필 캐시에 있는 회원은 캐시에서, 나머지는 청크 단위 IN 쿼리 프로젝션으로 조회
+ * - 존재하지 않는 회원 ID는 결과에서 제외 (예외 없음)
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.dto.MemberResponse;
+import com.nsmm.esg.authservice.exception.InvalidInputException;
+import com.nsmm.esg.authservice.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class MemberBatchService {
+
+    private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
+    private final int maxIds;
+    private final int chunkSize;
+    private final int streamThreshold;
+
+    public MemberBatchService(MemberRepository memberRepository,
+                              MemberProfileCache memberProfileCache,
+                              @Value("${auth.batch.max-ids:5000}") int maxIds,
+                              @Value("${auth.batch.chunk-size:500}") int chunkSize,
+                              @Value("${auth.batch.stream-threshold:1000}") int streamThreshold) {
+        this.memberRepository = memberRepository;
+        this.memberProfileCache = memberProfileCache;
+        this.maxIds = maxIds;
+        this.chunkSize = chunkSize;
+        this.streamThreshold = streamThreshold;
+    }
+
+    /**
+     * 요청 ID 검증 및 정규화 (null 제거, 중복 제거, 요청 순서 유지)
+     * @throws InvalidInputException 목록이 비었거나 최대 개수를 넘는 경우
+     */
+    public Set<Long> normalizeIds(Collection<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            throw new InvalidInputException("memberIds", "조회할 회원 ID가 없습니다.");
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : memberIds) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.size() > maxIds) {
+            throw new InvalidInputException("memberIds", "한 번에 최대 " + maxIds + "명까지 조회할 수 있습니다.");
+        }
+        return ids;
+    }
+
+    /**
+     * 응답을 한 번에 만들지 않고 스트리밍할 크기인지 여부
+     */
+    public boolean shouldStream(int idCount) {
+        return idCount > streamThreshold;
+    }
+
+    /**
+     * 회원 일괄 조회
+     * @param memberIds normalizeIds로 정규화된 회원 ID
+     * @return 회원 ID → 회원 정보 (요청 순서 유지, 없는 회원 제외)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<Long, MemberResponse> getMembers(Set<Long> memberIds) {
+        Map<Long, MemberResponse> found = new HashMap<>(memberIds.size() * 2);
+        forEachChunk(memberIds, chunk -> chunk.forEach(member -> found.put(member.getMemberId(), member)));
+
+        Map<Long, MemberResponse> ordered = new LinkedHashMap<>(found.size() * 2);
+        for (Long id : memberIds) {
+            MemberResponse member = found.get(id);
+            if (member != null) {
+                ordered.put(id, member);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 회원 일괄 조회 (청크 단위 전달)
+     * - 캐시 적중분을 먼저 전달한 뒤, 미스분을 chunkSize 단위 IN 쿼리로 조회하여 전달
+     * - 전체 결과를 메모리에 모으지 않으므로 큰 요청의 스트리밍 응답에 사용
+     * @param memberIds normalizeIds로 정규화된 회원 ID
+     * @param consumer 조회된 회원 묶음 처리 함수
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public void forEachChunk(Set<Long> memberIds, Consumer<Collection<MemberResponse>> consumer) {
+        Map<Long, MemberResponse> cached = memberProfileCache.getAllPresent(memberIds);
+        if (!cached.isEmpty()) {
+            consumer.accept(cached.values());
+        }
+
+        List<Long> misses = new ArrayList<>(memberIds.size() - cached.size());
+        for (Long id : memberIds) {
+            if (!cached.containsKey(id)) {
+                misses.add(id);
+            }
+        }
+
+        int queries = 0;
+        for (int from = 0; from < misses.size(); from += chunkSize) {
+            List<Long> chunk = misses.subList(from, Math.min(from + chunkSize, misses.size()));
+            List<MemberResponse> loaded = memberRepository.findMemberResponsesByIdIn(chunk);
+            queries++;
+
+            Map<Long, MemberResponse> toCache = new HashMap<>(loaded.size() * 2);
+            for (MemberResponse member : loaded) {
+                toCache.put(member.getMemberId(), member);
+            }
+            memberProfileCache.putAll(toCache);
+            consumer.accept(loaded);
+        }
+
+        log.debug("회원 일괄 조회: 요청={}건, 캐시 적중={}건, 쿼리={}회", memberIds.size(), cached.size(), queries);
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * 회원 전체 내보내기 서비스 (컴플라이언스 보고용, 비밀번호 해시 제외)
+ * - id 기준 keyset 페이지(where id > ? order by id limit ?)로 순회하여 테이블 크기와 무관하게 일정한 메모리 사용
+ * - 페이지마다 짧은 읽기 전용 트랜잭션으로 조회하므로 클라이언트가 느려도 DB 커넥션을 오래 잡지 않음
+ * - 조회 행을 엔티티/DTO로 만들지 않고 ResultSet 에서 바로 출력 스트림에 기록
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.authservice.exception.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@Slf4j
+@Service
+public class MemberExportService {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String[] COLUMNS = {"id", "name", "email", "phone_number", "company_name", "position", "profile_image_url"};
+    private static final String[] FIELDS = {"memberId", "name", "email", "phoneNumber", "companyName", "position", "profileImageUrl"};
+
+    private static final String PAGE_SQL = "select " + String.join(", ", COLUMNS) + " from member "
+            + "where id > ? order by id limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    public MemberExportService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${auth.export.page-size:1000}") int pageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 응답 형식 결정
+     * @param format csv 또는 ndjson
+     * @throws InvalidInputException 지원하지 않는 형식
+     */
+    public MediaType resolveMediaType(String format) {
+        return switch (format) {
+            case "csv" -> CSV;
+            case "ndjson" -> MediaType.APPLICATION_NDJSON;
+            default -> throw new InvalidInputException("format", "csv 또는 ndjson 형식만 지원합니다.");
+        };
+    }
+
+    /**
+     * 전체 회원을 출력 스트림에 기록 (스트림은 닫지 않음)
+     * @param outputStream 응답 스트림 (필요하면 호출 측에서 gzip 으로 감쌈)
+     * @param mediaType resolveMediaType 으로 결정한 형식
+     * @return 기록한 회원 수
+     */
+    public long export(OutputStream outputStream, MediaType mediaType) throws IOException {
+        long start = System.currentTimeMillis();
+        boolean csv = CSV.equalsTypeAndSubtype(mediaType);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        JsonGenerator generator = null;
+        if (csv) {
+            writer.write(String.join(",", FIELDS));
+            writer.write('\n');
+        } else {
+            // 루트 값 사이 기본 구분자(공백) 대신 행 끝마다 줄바꿈을 직접 기록
+            generator = objectMapper.getFactory().createGenerator(writer);
+            generator.setRootValueSeparator(null);
+        }
+
+        PageHandler handler = new PageHandler(csv ? new CsvRowWriter(writer) : new JsonRowWriter(generator));
+        try {
+            do {
+                handler.rowsInPage = 0;
+                readOnlyTransaction.executeWithoutResult(status ->
+                        jdbcTemplate.query(PAGE_SQL, handler, handler.lastId, pageSize));
+                // 페이지마다 내보내어 버퍼가 페이지 크기 이상으로 쌓이지 않게 함
+                if (generator != null) {
+                    generator.flush();
+                }
+                writer.flush();
+            } while (handler.rowsInPage == pageSize);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("회원 내보내기 완료: {}건, 형식={}, 소요={}ms", handler.total, mediaType, System.currentTimeMillis() - start);
+        return handler.total;
+    }
+
+    /**
+     * 페이지 행을 기록하고 다음 페이지 시작 id 를 기억
+     */
+    private static final class PageHandler implements RowCallbackHandler {
+        private final RowWriter rowWriter;
+        private long lastId;
+        private int rowsInPage;
+        private long total;
+
+        PageHandler(RowWriter rowWriter) {
+            this.rowWriter = rowWriter;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            lastId = rs.getLong(1);
+            rowsInPage++;
+            total++;
+        }
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    private record CsvRowWriter(Writer writer) implements RowWriter {
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            writer.write(Long.toString(rs.getLong(1)));
+            for (int i = 2; i <= COLUMNS.length; i++) {
+                writer.write(',');
+                writeValue(rs.getString(i));
+            }
+            writer.write('\n');
+        }
+
+        // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 "" 로 이스케이프
+        private void writeValue(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private record JsonRowWriter(JsonGenerator generator) implements RowWriter {
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(FIELDS[0], rs.getLong(1));
+            for (int i = 2; i <= COLUMNS.length; i++) {
+                generator.writeStringField(FIELDS[i - 1], rs.getString(i));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * 일괄 가입 요청 본문 읽기 (한 행씩, 전체를 메모리에 올리지 않음)
+ * - CSV: 첫 행은 헤더 (email, password, name, phoneNumber, companyName, position / snake_case 허용)
+ *   따옴표로 감싼 값과 "" 이스케이프 지원, 값 안의 줄바꿈은 지원하지 않음
+ * - NDJSON: 한 행에 회원가입 요청 JSON 하나
+ * - 파싱 오류는 예외 대신 해당 행의 오류로 반환하여 나머지 행은 계속 처리
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.authservice.dto.RegisterRequest;
+import com.nsmm.esg.authservice.exception.InvalidInputException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class MemberImportReader implements Closeable {
+
+    enum Format { CSV, NDJSON }
+
+    /**
+     * 읽은 행 (request 또는 error 중 하나만 존재)
+     */
+    record Row(int line, RegisterRequest request, String error) {
+    }
+
+    private static final List<String> COLUMNS = List.of("email", "password", "name", "phonenumber", "companyname", "position");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private int line;
+    private Map<String, Integer> columnIndex;
+
+    MemberImportReader(InputStream inputStream, Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 데이터 행 (빈 행은 건너뜀)
+     * @return 더 이상 행이 없으면 null
+     * @throws InvalidInputException CSV 헤더에 필수 컬럼이 없는 경우
+     */
+    Row next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (line == 1 && !text.isEmpty() && text.charAt(0) == '\uFEFF') {
+                text = text.substring(1); // UTF-8 BOM
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == Format.NDJSON) {
+                return parseJson(text);
+            }
+            if (columnIndex == null) {
+                columnIndex = parseHeader(text);
+                continue;
+            }
+            return parseCsv(text);
+        }
+        return null;
+    }
+
+    private Row parseJson(String text) {
+        try {
+            // "null" 행은 예외 없이 null 로 읽힘
+            RegisterRequest request = objectMapper.readValue(text, RegisterRequest.class);
+            if (request != null) {
+                return new Row(line, request, null);
+            }
+        } catch (JsonProcessingException e) {
+            // 아래에서 행 오류로 반환
+        }
+        return new Row(line, null, "JSON 형식이 올바르지 않습니다.");
+    }
+
+    private Map<String, Integer> parseHeader(String text) {
+        List<String> names = splitCsv(text);
+        if (names == null) {
+            throw new InvalidInputException("header", "CSV 헤더의 따옴표가 닫히지 않았습니다.");
+        }
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+            if (COLUMNS.contains(name)) {
+                index.put(name, i);
+            }
+        }
+        for (String required : List.of("email", "password", "name")) {
+            if (!index.containsKey(required)) {
+                throw new InvalidInputException("header", "CSV 헤더에 " + required + " 컬럼이 없습니다.");
+            }
+        }
+        return index;
+    }
+
+    private Row parseCsv(String text) {
+        List<String> values = splitCsv(text);
+        if (values == null) {
+            return new Row(line, null, "따옴표가 닫히지 않았습니다.");
+        }
+        return new Row(line, RegisterRequest.builder()
+                .email(value(values, "email", true))
+                .password(value(values, "password", false))
+                .name(value(values, "name", true))
+                .phoneNumber(value(values, "phonenumber", true))
+                .companyName(value(values, "companyname", true))
+                .position(value(values, "position", true))
+                .build(), null);
+    }
+
+    // 비밀번호는 앞뒤 공백도 비밀번호의 일부이므로 trim 하지 않음
+    private String value(List<String> values, String column, boolean trim) {
+        Integer index = columnIndex.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = trim ? values.get(index).trim() : values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * CSV 한 행 분리
+     * @return 따옴표가 닫히지 않으면 null
+     */
+    private static List<String> splitCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
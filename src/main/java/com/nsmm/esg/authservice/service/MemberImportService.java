@@ -0,0 +1,342 @@
+/**
+ * 회원 일괄 가입 서비스 (회사 단위 온보딩용)
+ * - 요청 본문(CSV/NDJSON)을 한 행씩 읽어 검증하고 chunkSize 행마다 처리
+ * - 청크 처리: 기존 이메일 IN 조회 → 비밀번호 병렬 해시 (전용 ForkJoinPool) → JDBC 배치 INSERT
+ * - 비밀번호 해시 중에는 DB 커넥션을 잡지 않고, INSERT 는 청크마다 짧은 트랜잭션으로 실행
+ * - 청크 INSERT 가 제약조건 위반으로 실패하면(조회 이후 먼저 가입된 경우) 해당 청크만 한 건씩 다시 INSERT
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.authservice.dto.MemberImportResponse;
+import com.nsmm.esg.authservice.dto.MemberImportRowResult;
+import com.nsmm.esg.authservice.dto.MemberImportRowResult.Status;
+import com.nsmm.esg.authservice.dto.RegisterRequest;
+import com.nsmm.esg.authservice.exception.InvalidInputException;
+import com.nsmm.esg.authservice.exception.ServiceOverloadedException;
+import com.nsmm.esg.authservice.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Service
+public class MemberImportService {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType NDJSON = MediaType.APPLICATION_NDJSON;
+
+    private static final String INSERT_SQL = "insert into member (name, email, phone_number, company_name, position, password) "
+            + "values (?, ?, ?, ?, ?, ?)";
+
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailExistenceIndex emailExistenceIndex;
+    private final CompanyNameIndex companyNameIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxRows;
+    private final ForkJoinPool hashPool;
+    private final Semaphore concurrentImports;
+    private final Map<Status, Counter> rowCounters = new EnumMap<>(Status.class);
+
+    public MemberImportService(MemberRepository memberRepository,
+                               PasswordEncoder passwordEncoder,
+                               EmailExistenceIndex emailExistenceIndex,
+                               CompanyNameIndex companyNameIndex,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${auth.import.chunk-size:500}") int chunkSize,
+                               @Value("${auth.import.max-rows:50000}") int maxRows,
+                               @Value("${auth.import.hash-parallelism:0}") int hashParallelism,
+                               @Value("${auth.import.max-concurrent:1}") int maxConcurrent,
+                               ObjectProvider<MeterRegistry> registryProvider) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.emailExistenceIndex = emailExistenceIndex;
+        this.companyNameIndex = companyNameIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+
+        // 0 이하이면 CPU 코어 수의 절반 (로그인용 해시 풀과 CPU를 나눠 씀)
+        int parallelism = hashParallelism > 0 ? hashParallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashPool = new ForkJoinPool(parallelism);
+        this.concurrentImports = new Semaphore(maxConcurrent);
+
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        for (Status status : Status.values()) {
+            rowCounters.put(status, Counter.builder("auth.import.rows")
+                    .description("일괄 가입 처리 행 수")
+                    .tag("status", status.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 일괄 가입
+     * @param inputStream 요청 본문
+     * @param contentType 본문 형식 (text/csv 또는 application/x-ndjson)
+     * @return 행별 결과와 처리량 요약
+     * @throws InvalidInputException 지원하지 않는 형식이거나 CSV 헤더가 올바르지 않은 경우
+     * @throws ServiceOverloadedException 동시에 실행 중인 일괄 가입이 최대 개수에 도달한 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberImportResponse importMembers(InputStream inputStream, MediaType contentType) throws IOException {
+        MemberImportReader.Format format;
+        if (CSV.isCompatibleWith(contentType)) {
+            format = MemberImportReader.Format.CSV;
+        } else if (NDJSON.isCompatibleWith(contentType)) {
+            format = MemberImportReader.Format.NDJSON;
+        } else {
+            throw new InvalidInputException("Content-Type", "text/csv 또는 application/x-ndjson 형식만 지원합니다.");
+        }
+
+        if (!concurrentImports.tryAcquire()) {
+            throw new ServiceOverloadedException("다른 일괄 가입이 진행 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return doImport(inputStream, format);
+        } finally {
+            concurrentImports.release();
+        }
+    }
+
+    private MemberImportResponse doImport(InputStream inputStream, MemberImportReader.Format format) throws IOException {
+        long start = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        int rowCount = 0;
+
+        try (MemberImportReader reader = new MemberImportReader(inputStream, format, objectMapper)) {
+            MemberImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (++rowCount > maxRows) {
+                    // 나머지 행은 읽지 않고 한 건의 오류로만 기록
+                    progress.add(new MemberImportRowResult(row.line(), null, Status.INVALID,
+                            "한 번에 최대 " + maxRows + "건까지 가입할 수 있습니다. " + row.line() + "행부터는 처리하지 않았습니다."));
+                    break;
+                }
+                RegisterRequest request = row.request();
+                String email = request == null ? null : request.getEmail();
+                if (row.error() != null) {
+                    progress.add(new MemberImportRowResult(row.line(), null, Status.INVALID, row.error()));
+                    continue;
+                }
+                try {
+                    MemberService.validateRegistration(request);
+                } catch (InvalidInputException e) {
+                    progress.add(new MemberImportRowResult(row.line(), email, Status.INVALID, e.getMessage()));
+                    continue;
+                }
+                if (!seenEmails.add(EmailExistenceIndex.normalize(email))) {
+                    progress.add(new MemberImportRowResult(row.line(), email, Status.DUPLICATE, "파일 안에서 중복된 이메일입니다."));
+                    continue;
+                }
+
+                chunk.add(new PendingRow(row.line(), request));
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, progress);
+        }
+
+        MemberImportResponse response = progress.toResponse(System.nanoTime() - start);
+        MemberImportResponse.Report report = response.getReport();
+        log.info("회원 일괄 가입 완료: 전체={}건, 가입={}건, 중복={}건, 오류={}건, 실패={}건, 소요={}ms, 처리량={}건/s",
+                report.getTotal(), report.getCreated(), report.getDuplicate(), report.getInvalid(), report.getFailed(),
+                report.getElapsedMillis(), Math.round(report.getRowsPerSecond()));
+        return response;
+    }
+
+    private void processChunk(List<PendingRow> chunk, ImportProgress progress) {
+        // 1. 이미 가입된 이메일 제외 (DB 비교는 collation 기준, 결과는 정규화하여 비교)
+        long phaseStart = System.nanoTime();
+        Set<String> existing = new HashSet<>();
+        for (String email : memberRepository.findExistingEmails(chunk.stream().map(row -> row.request.getEmail()).toList())) {
+            existing.add(EmailExistenceIndex.normalize(email));
+        }
+        progress.insertNanos += System.nanoTime() - phaseStart;
+
+        List<PendingRow> toInsert = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            if (existing.contains(EmailExistenceIndex.normalize(row.request.getEmail()))) {
+                row.result(Status.DUPLICATE, "이미 가입된 이메일입니다.");
+            } else {
+                toInsert.add(row);
+            }
+        }
+
+        // 2. 비밀번호 병렬 해시 (DB 커넥션 없이)
+        phaseStart = System.nanoTime();
+        hashPasswords(toInsert);
+        progress.hashNanos += System.nanoTime() - phaseStart;
+
+        // 3. 배치 INSERT
+        phaseStart = System.nanoTime();
+        insert(toInsert.stream().filter(row -> row.encodedPassword != null).toList());
+        progress.insertNanos += System.nanoTime() - phaseStart;
+
+        for (PendingRow row : chunk) {
+            progress.add(row.result);
+        }
+    }
+
+    private void hashPasswords(List<PendingRow> rows) {
+        List<Callable<Void>> tasks = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            tasks.add(() -> {
+                try {
+                    row.encodedPassword = passwordEncoder.encode(row.request.getPassword());
+                } catch (RuntimeException e) {
+                    row.result(Status.FAILED, "비밀번호 해시 중 오류가 발생했습니다.");
+                }
+                return null;
+            });
+        }
+        // invokeAll 은 모든 작업이 끝날 때까지 대기 (작업별 예외는 위에서 행 결과로 기록)
+        hashPool.invokeAll(tasks);
+    }
+
+    private void insert(List<PendingRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows.stream().map(PendingRow::insertArgs).toList()));
+            rows.forEach(this::created);
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 같은 이메일이 먼저 가입된 경우 등, 청크 전체가 롤백되므로 한 건씩 다시 INSERT하여 해당 행만 골라냄
+            log.debug("일괄 가입 청크 INSERT 실패, 한 건씩 재시도: {}건, 원인={}", rows.size(), e.getMessage());
+            rows.forEach(this::insertOne);
+        } catch (DataAccessException e) {
+            log.error("일괄 가입 청크 INSERT 실패: {}건, 원인={}", rows.size(), e.getMessage(), e);
+            rows.forEach(row -> row.result(Status.FAILED, "저장 중 오류가 발생했습니다."));
+        }
+    }
+
+    private void insertOne(PendingRow row) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, row.insertArgs());
+            created(row);
+        } catch (DuplicateKeyException e) {
+            row.result(Status.DUPLICATE, "이미 가입된 이메일입니다.");
+        } catch (DataIntegrityViolationException e) {
+            // 길이는 검증 단계에서 걸러지므로 그 외 제약조건 위반
+            log.warn("일괄 가입 INSERT 제약조건 위반: 행={}, 원인={}", row.line, e.getMessage());
+            row.result(Status.INVALID, "저장할 수 없는 값이 포함되어 있습니다.");
+        } catch (DataAccessException e) {
+            log.warn("일괄 가입 INSERT 실패: 행={}, 원인={}", row.line, e.getMessage());
+            row.result(Status.FAILED, "저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void created(PendingRow row) {
+        emailExistenceIndex.add(row.request.getEmail());
+        companyNameIndex.add(row.request.getCompanyName());
+        row.result(Status.CREATED, null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdown();
+    }
+
+    /**
+     * 청크 처리 대기 중인 행 (해시 결과와 처리 결과를 채워 나감)
+     */
+    private static final class PendingRow {
+        private final int line;
+        private final RegisterRequest request;
+        private String encodedPassword;
+        private MemberImportRowResult result;
+
+        PendingRow(int line, RegisterRequest request) {
+            this.line = line;
+            this.request = request;
+        }
+
+        void result(Status status, String message) {
+            this.result = new MemberImportRowResult(line, request.getEmail(), status, message);
+        }
+
+        Object[] insertArgs() {
+            return new Object[] {request.getName(), request.getEmail(), request.getPhoneNumber(),
+                    request.getCompanyName(), request.getPosition(), encodedPassword};
+        }
+    }
+
+    /**
+     * 행별 결과와 상태별 건수, 단계별 소요 시간 누적
+     */
+    private final class ImportProgress {
+        private final List<MemberImportRowResult> results = new ArrayList<>();
+        private final Map<Status, Integer> counts = new EnumMap<>(Status.class);
+        private long hashNanos;
+        private long insertNanos;
+
+        void add(MemberImportRowResult result) {
+            results.add(result);
+            counts.merge(result.getStatus(), 1, Integer::sum);
+            rowCounters.get(result.getStatus()).increment();
+        }
+
+        MemberImportResponse toResponse(long elapsedNanos) {
+            // 검증 오류 행은 바로, 나머지는 청크 처리 후 기록되므로 행 번호 순으로 정렬
+            results.sort(Comparator.comparingInt(MemberImportRowResult::getLine));
+            long elapsedMillis = elapsedNanos / 1_000_000;
+            double rowsPerSecond = elapsedNanos == 0 ? 0 : results.size() / (elapsedNanos / 1e9);
+            MemberImportResponse.Report report = new MemberImportResponse.Report(
+                    results.size(),
+                    counts.getOrDefault(Status.CREATED, 0),
+                    counts.getOrDefault(Status.DUPLICATE, 0),
+                    counts.getOrDefault(Status.INVALID, 0),
+                    counts.getOrDefault(Status.FAILED, 0),
+                    elapsedMillis,
+                    hashNanos / 1_000_000,
+                    insertNanos / 1_000_000,
+                    rowsPerSecond);
+            return new MemberImportResponse(report, results);
+        }
+    }
+}
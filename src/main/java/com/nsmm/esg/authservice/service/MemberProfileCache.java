@@ -0,0 +1,188 @@
+/**
+ * 회원 프로필 캐시
+ * - memberId → MemberResponse 읽기 캐시 (/auth/me, /auth/profile-image 조회용)
+ * - /auth/me 응답용으로 직렬화한 JSON 바이트와 내용 해시(ETag)도 함께 보관하여 반복 조회 시 재직렬화 생략
+ * - 회원별 현재 ETag 는 본문보다 훨씬 많은 회원 수만큼 따로 보관하여, 본문이 밀려난 뒤에도 조건부 요청에 로딩 없이 304 응답
+ * - 최대 크기와 TTL로 제거되며, 회원 정보 변경 시 커밋 이후 명시적으로 무효화
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nsmm.esg.authservice.dto.MemberResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+public class MemberProfileCache {
+
+    private static final String CACHE_NAME = "member.profile";
+    private static final String SERIALIZED_CACHE_NAME = "member.profile.serialized";
+
+    private final Cache<Long, MemberResponse> cache;
+
+    // memberId → 직렬화된 응답 본문과 ETag (cache 와 함께 무효화)
+    private final Cache<Long, SerializedProfile> serialized;
+    private final ObjectMapper objectMapper;
+
+    // memberId → 현재 ETag (항목이 작아 본문 캐시보다 크게 유지, 변경 시 함께 무효화)
+    private final Cache<Long, String> etags;
+
+    // 최근 변경된 회원 (복제 지연 동안 복제본의 이전 값을 캐시에 적재하지 않도록 primary 에서 로딩)
+    private final Cache<Long, Boolean> recentlyModified;
+
+    public MemberProfileCache(@Value("${auth.cache.member.max-size:10000}") long maxSize,
+                              @Value("${auth.cache.member.ttl-seconds:600}") long ttlSeconds,
+                              @Value("${auth.cache.member.etag-max-size:100000}") long etagMaxSize,
+                              @Value("${auth.datasource.routing.read-your-writes-seconds:10}") long readYourWritesSeconds,
+                              ObjectMapper objectMapper,
+                              ObjectProvider<MeterRegistry> registryProvider) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.serialized = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.objectMapper = objectMapper;
+        this.etags = Caffeine.newBuilder()
+                .maximumSize(etagMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.recentlyModified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(readYourWritesSeconds))
+                .build();
+
+        // 적중률, 크기, 로딩 시간 메트릭 노출 (cache.gets, cache.size, cache.load.duration 등)
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(registry, serialized, SERIALIZED_CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 저장
+     * - 같은 회원에 대한 동시 조회는 한 번만 로딩
+     */
+    public MemberResponse get(Long memberId, Function<Long, MemberResponse> loader) {
+        return cache.get(memberId, loader);
+    }
+
+    /**
+     * 직렬화된 응답 조회, 없으면 회원 정보를 조회(캐시 또는 loader)하여 직렬화 후 저장
+     * - 캐시 적중 시 DB 조회와 직렬화 없이 바이트 그대로 반환
+     */
+    public SerializedProfile getSerialized(Long memberId, Function<Long, MemberResponse> loader) {
+        return serialized.get(memberId, id -> {
+            SerializedProfile profile = serialize(cache.get(id, loader));
+            etags.put(id, profile.etag());
+            return profile;
+        });
+    }
+
+    /**
+     * 이 노드가 마지막으로 응답한 현재 ETag (로딩하지 않음)
+     * @return 모르면 null (기동 직후, 다른 노드에서만 조회된 회원, TTL 만료 등)
+     */
+    public String getEtagIfPresent(Long memberId) {
+        return etags.getIfPresent(memberId);
+    }
+
+    private SerializedProfile serialize(MemberResponse response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return new SerializedProfile(body, "\"" + digest(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("회원 정보 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시된 값만 조회 (로딩하지 않음)
+     * @return 캐시에 없으면 null
+     */
+    public MemberResponse getIfPresent(Long memberId) {
+        return cache.getIfPresent(memberId);
+    }
+
+    /**
+     * 여러 회원의 캐시된 값만 조회 (로딩하지 않음)
+     * @return 캐시에 있는 회원만 담은 Map
+     */
+    public Map<Long, MemberResponse> getAllPresent(Collection<Long> memberIds) {
+        return cache.getAllPresent(memberIds);
+    }
+
+    /**
+     * 일괄 조회로 로딩한 값 저장
+     */
+    public void putAll(Map<Long, MemberResponse> responses) {
+        cache.putAll(responses);
+    }
+
+    /**
+     * 최근(read-your-writes-seconds 이내) 변경되어 무효화된 회원인지 여부
+     */
+    public boolean isRecentlyModified(Long memberId) {
+        return recentlyModified.getIfPresent(memberId) != null;
+    }
+
+    /**
+     * 회원 캐시 무효화
+     * - 즉시 제거하고, 트랜잭션 안이면 커밋 이후 한 번 더 제거
+     *   (커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우 방지)
+     */
+    public void evict(Long memberId) {
+        recentlyModified.put(memberId, Boolean.TRUE);
+        invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long memberId) {
+        cache.invalidate(memberId);
+        serialized.invalidate(memberId);
+        etags.invalidate(memberId);
+    }
+
+    /**
+     * 직렬화된 /auth/me 응답 본문과 강한 ETag (본문 SHA-256)
+     * - 내용이 같으면 노드와 무관하게 같은 ETag 이므로 인스턴스가 여러 개여도 304 응답 가능
+     */
+    public record SerializedProfile(byte[] body, String etag) {
+    }
+}
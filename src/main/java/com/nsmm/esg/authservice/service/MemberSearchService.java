@@ -0,0 +1,85 @@
+/**
+ * 회원 검색 서비스 (회사명, 이름 접두어, 직책)
+ * - keyset 페이지: 다음 페이지는 직전 페이지 마지막 행의 (이름, ID) 다음부터 조회하므로 페이지 깊이와 무관하게 일정한 비용
+ * - 페이지 위치는 불투명한 커서 토큰으로 주고받음 (Base64url, 클라이언트는 내용을 해석하지 않음)
+ * - 응답은 검색용 프로젝션 (연락처, 비밀번호 제외)
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.dto.MemberSearchResponse;
+import com.nsmm.esg.authservice.dto.MemberSummary;
+import com.nsmm.esg.authservice.exception.InvalidInputException;
+import com.nsmm.esg.authservice.repository.MemberRepository;
+import com.nsmm.esg.authservice.repository.MemberSearchRepository.SearchKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+@Service
+public class MemberSearchService {
+
+    private final MemberRepository memberRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public MemberSearchService(MemberRepository memberRepository,
+                               @Value("${auth.search.default-page-size:20}") int defaultPageSize,
+                               @Value("${auth.search.max-page-size:100}") int maxPageSize) {
+        this.memberRepository = memberRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * 회원 검색
+     * @param companyName 회사명 (일치, 선택)
+     * @param namePrefix 이름 접두어 (선택)
+     * @param position 직책 (일치, 선택)
+     * @param size 페이지 크기 (null 이면 기본값)
+     * @param cursor 직전 응답의 nextCursor (null 이면 첫 페이지)
+     * @throws InvalidInputException 페이지 크기나 커서가 유효하지 않은 경우
+     */
+    public MemberSearchResponse search(String companyName, String namePrefix, String position, Integer size, String cursor) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidInputException("size", "페이지 크기는 1 ~ " + maxPageSize + " 사이여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<MemberSummary> rows = memberRepository.search(blankToNull(companyName), blankToNull(namePrefix),
+                blankToNull(position), decodeCursor(cursor), pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new MemberSearchResponse(rows, null);
+        }
+
+        List<MemberSummary> page = rows.subList(0, pageSize);
+        MemberSummary last = page.get(pageSize - 1);
+        return new MemberSearchResponse(List.copyOf(page), encodeCursor(new SearchKey(last.getName(), last.getMemberId())));
+    }
+
+    // "{id}:{name}" → Base64url
+    private static String encodeCursor(SearchKey key) {
+        String raw = key.id() + ":" + key.name();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SearchKey decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new SearchKey(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidInputException("cursor", "유효하지 않은 커서입니다.");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
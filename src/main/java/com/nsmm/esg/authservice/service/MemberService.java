@@ -4,24 +4,35 @@
  */
 package com.nsmm.esg.authservice.service;
 
+import com.nsmm.esg.authservice.config.AuthMetrics;
+import com.nsmm.esg.authservice.config.AuthMetrics.Operation;
+import com.nsmm.esg.authservice.config.AuthMetrics.Phase;
 import com.nsmm.esg.authservice.config.JwtTokenProvider;
+import com.nsmm.esg.authservice.config.ReplicaDataSourceRouter;
 import com.nsmm.esg.authservice.dto.ChangePasswordRequest;
+import com.nsmm.esg.authservice.dto.MemberCredentials;
 import com.nsmm.esg.authservice.dto.MemberResponse;
+import com.nsmm.esg.authservice.dto.ProfileImageConfirmRequest;
+import com.nsmm.esg.authservice.dto.ProfileImageUploadUrlRequest;
+import com.nsmm.esg.authservice.dto.ProfileImageUploadUrlResponse;
 import com.nsmm.esg.authservice.entity.Member;
 import com.nsmm.esg.authservice.dto.LoginRequest;
 import com.nsmm.esg.authservice.dto.RegisterRequest;
 import com.nsmm.esg.authservice.exception.*;
 import com.nsmm.esg.authservice.repository.MemberRepository;
-import io.micrometer.core.instrument.Counter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -29,105 +40,164 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class MemberService {
 
+    // 이메일 형식 (요청마다 컴파일하지 않도록 한 번만 생성, 벤치마크에서도 참조)
+    static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final FileStorageService fileStorageService;
-    
-    // Optional 메트릭 카운터
-    private final Optional<Counter> loginSuccessCounter;
-    private final Optional<Counter> loginFailureCounter;
-    private final Optional<Counter> registerSuccessCounter; 
-    private final Optional<Counter> registerFailureCounter;
-
-    @Autowired
-    public MemberService(
-            MemberRepository memberRepository,
-            PasswordEncoder passwordEncoder,
-            JwtTokenProvider jwtTokenProvider,
-            FileStorageService fileStorageService,
-            @Autowired(required = false) Counter loginSuccessCounter,
-            @Autowired(required = false) Counter loginFailureCounter,
-            @Autowired(required = false) Counter registerSuccessCounter,
-            @Autowired(required = false) Counter registerFailureCounter) {
-        this.memberRepository = memberRepository;
-        this.passwordEncoder = passwordEncoder;
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.fileStorageService = fileStorageService;
-        this.loginSuccessCounter = Optional.ofNullable(loginSuccessCounter);
-        this.loginFailureCounter = Optional.ofNullable(loginFailureCounter);
-        this.registerSuccessCounter = Optional.ofNullable(registerSuccessCounter);
-        this.registerFailureCounter = Optional.ofNullable(registerFailureCounter);
-    }
-
-    /**
-     * 메트릭 카운터 증가
-     */
-    private void incrementCounter(Optional<Counter> counter) {
-        counter.ifPresent(Counter::increment);
-    }
+    private final EmailExistenceIndex emailExistenceIndex;
+    private final CompanyNameIndex companyNameIndex;
+    private final MemberProfileCache memberProfileCache;
+    private final ProfileImageProcessor profileImageProcessor;
+    private final AuthMetrics authMetrics;
+    private final FailureLogSampler failureLogSampler;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 회원가입 메서드
+     * - 중복 조회와 INSERT 는 각각 짧은 리포지토리 트랜잭션으로 실행하고, 비밀번호 해시 중에는 DB 커넥션을 잡지 않음
+     * - 중복 조회와 INSERT 사이의 경합은 email unique 제약조건으로 처리
      * @param request 회원가입 요청 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void register(RegisterRequest request) {
-        log.info("회원가입 시도: 이메일={}", request.getEmail());
+        log.debug("회원가입 시도: 이메일={}", request.getEmail());
         
         try {
-            // 필수값 검사
-            if (request.getEmail() == null || request.getEmail().isBlank()) {
-                throw new InvalidInputException("email", "이메일을 입력하세요.");
-            }
-            if (request.getPassword() == null || request.getPassword().isBlank()) {
-                throw new InvalidInputException("password", "비밀번호를 입력하세요.");
-            }
-            if (request.getName() == null || request.getName().isBlank()) {
-                throw new InvalidInputException("name", "이름을 입력하세요.");
-            }
-
-            // 이메일 형식 유효성 검사
-            if (!request.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-                throw new InvalidInputException("email", "유효하지 않은 이메일 형식입니다.");
-            }
-
-            // 비밀번호 보안 검사
-            if (request.getPassword().length() < 8) {
-                throw new InvalidInputException("password", "비밀번호는 8자 이상이어야 합니다.");
-            }
+            validateRegistration(request);
 
-            // 이메일 중복 체크
-            if (memberRepository.findByEmail(request.getEmail()).isPresent()) {
+            // 이메일 중복 체크 (인덱스가 "있을 수 있음"일 때만 DB 조회)
+            long phaseStart = System.nanoTime();
+            boolean registered = isEmailRegistered(request.getEmail());
+            authMetrics.record(Phase.REGISTER_LOOKUP, phaseStart);
+            if (registered) {
                 throw new DuplicateResourceException("회원", "이메일", request.getEmail());
             }
 
+            phaseStart = System.nanoTime();
+            String encodedPassword = passwordHasher.encode(request.getPassword());
+            authMetrics.record(Phase.REGISTER_HASH, phaseStart);
+
             Member member = Member.builder()
                     .name(request.getName())
                     .email(request.getEmail())
                     .phoneNumber(request.getPhoneNumber())
                     .companyName(request.getCompanyName())
                     .position(request.getPosition())
-                    .password(passwordEncoder.encode(request.getPassword()))
+                    .password(encodedPassword)
                     .build();
 
-            memberRepository.save(member);
+            phaseStart = System.nanoTime();
+            try {
+                memberRepository.save(member);
+            } catch (DataIntegrityViolationException e) {
+                // 중복 체크와 INSERT 사이에 같은 이메일이 먼저 가입된 경우 (unique 제약조건 위반)
+                throw new DuplicateResourceException("회원", "이메일", request.getEmail());
+            } finally {
+                authMetrics.record(Phase.REGISTER_INSERT, phaseStart);
+            }
+            emailExistenceIndex.add(request.getEmail());
+            companyNameIndex.add(request.getCompanyName());
             log.info("회원가입 성공: 이메일={}, 회원ID={}", request.getEmail(), member.getId());
-            incrementCounter(registerSuccessCounter);
+            authMetrics.success(Operation.REGISTER);
         } catch (Exception e) {
-            log.error("회원가입 실패: 이메일={}, 원인={}", request.getEmail(), e.getMessage(), e);
-            incrementCounter(registerFailureCounter);
+            logFailure("회원가입", request.getEmail(), e);
+            authMetrics.failure(Operation.REGISTER, e);
             throw e;
         }
     }
 
+    /**
+     * 회원가입 입력값 검사 (필수값, 이메일 형식, 비밀번호 길이)
+     * - 일괄 가입(MemberImportService)에서도 같은 규칙으로 검사
+     * @throws InvalidInputException 유효하지 않은 입력값
+     */
+    static void validateRegistration(RegisterRequest request) {
+        // 필수값 검사
+        if (request.getEmail() == null || request.getEmail().isBlank()) {
+            throw new InvalidInputException("email", "이메일을 입력하세요.");
+        }
+        if (request.getPassword() == null || request.getPassword().isBlank()) {
+            throw new InvalidInputException("password", "비밀번호를 입력하세요.");
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new InvalidInputException("name", "이름을 입력하세요.");
+        }
+
+        // 이메일 형식 유효성 검사
+        if (!EMAIL_PATTERN.matcher(request.getEmail()).matches()) {
+            throw new InvalidInputException("email", "유효하지 않은 이메일 형식입니다.");
+        }
+
+        // 비밀번호 보안 검사
+        if (request.getPassword().length() < 8) {
+            throw new InvalidInputException("password", "비밀번호는 8자 이상이어야 합니다.");
+        }
+
+        // 컬럼 길이 검사 (Member 엔티티의 length 와 동일)
+        checkLength("name", "이름", request.getName(), 100);
+        checkLength("email", "이메일", request.getEmail(), 255);
+        checkLength("phoneNumber", "전화번호", request.getPhoneNumber(), 20);
+        checkLength("companyName", "회사명", request.getCompanyName(), 100);
+        checkLength("position", "직책", request.getPosition(), 50);
+    }
+
+    // MySQL VARCHAR 길이는 문자(코드 포인트) 단위
+    private static void checkLength(String field, String label, String value, int maxLength) {
+        if (value != null && value.codePointCount(0, value.length()) > maxLength) {
+            throw new InvalidInputException(field, label + "은(는) " + maxLength + "자 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 로그인/회원가입 실패 로그
+     * - 원인 없는 AuthException(잘못된 비밀번호, 중복 가입 등 예상된 실패)은 스택 트레이스 없이 샘플링하여 기록
+     * - 그 외 예외는 항상 스택 트레이스와 함께 기록
+     */
+    private void logFailure(String action, String email, Exception e) {
+        if (e instanceof AuthException authException && e.getCause() == null) {
+            long suppressed = failureLogSampler.tryAcquire(action + "." + authException.getErrorCode());
+            if (suppressed != FailureLogSampler.SUPPRESSED) {
+                log.warn("{} 실패: 이메일={}, 원인={}, 생략된 로그={}건", action, email, e.getMessage(), suppressed);
+            }
+            return;
+        }
+        log.error("{} 실패: 이메일={}, 원인={}", action, email, e.getMessage(), e);
+    }
+
+    /**
+     * 이메일 사용 가능 여부 조회 메서드
+     * @param email 확인할 이메일
+     * @return 가입되지 않은 이메일이면 true
+     */
+    public boolean isEmailAvailable(String email) {
+        if (email == null || email.isBlank()) {
+            throw new InvalidInputException("email", "이메일을 입력하세요.");
+        }
+        return !isEmailRegistered(email);
+    }
+
+    /**
+     * 이메일 가입 여부 확인
+     * - 블룸 필터가 "확실히 없음"이면 DB 조회 생략
+     */
+    private boolean isEmailRegistered(String email) {
+        return emailExistenceIndex.mightContain(email) && memberRepository.existsByEmail(email);
+    }
+
     /**
      * 로그인 메서드
+     * - 비밀번호 해시 cost가 현재 설정보다 낮으면 로그인 성공 시 새 cost로 재해시
+     * - 재해시 UPDATE가 별도 쓰기 트랜잭션에서 실행되도록 읽기 전용 트랜잭션을 열지 않음
+     * - 비밀번호 검증(BCrypt) 중에는 DB 커넥션을 잡지 않음
      * @param request 로그인 요청 정보
      * @return JWT 토큰
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String login(LoginRequest request) {
-        log.info("로그인 시도: 이메일={}", request.getEmail());
+        log.debug("로그인 시도: 이메일={}", request.getEmail());
         
         try {
             if (request.getEmail() == null || request.getEmail().isBlank()) {
@@ -138,115 +208,261 @@ public class MemberService {
                 throw new InvalidInputException("password", "비밀번호를 입력하세요.");
             }
 
-            Member member = memberRepository.findByEmail(request.getEmail())
+            // 인증에 필요한 컬럼(id, 비밀번호 해시)만 조회
+            // 복제본에 없으면(가입 직후 복제 지연) primary 에서 한 번 더 조회
+            long phaseStart = System.nanoTime();
+            Optional<MemberCredentials> found = memberRepository.findCredentialsByEmail(request.getEmail());
+            if (found.isEmpty()) {
+                found = ReplicaDataSourceRouter.onPrimary(() -> memberRepository.findCredentialsByEmail(request.getEmail()));
+            }
+            authMetrics.record(Phase.LOGIN_LOOKUP, phaseStart);
+            MemberCredentials credentials = found
                     .orElseThrow(() -> new UserNotFoundException(request.getEmail(), "계정이 존재하지 않습니다."));
 
-            if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+            phaseStart = System.nanoTime();
+            boolean matched = passwordHasher.matches(request.getPassword(), credentials.getPassword());
+            authMetrics.record(Phase.LOGIN_HASH_VERIFY, phaseStart);
+            if (!matched) {
                 throw new InvalidCredentialsException("비밀번호가 일치하지 않습니다.");
             }
 
-            String token = jwtTokenProvider.createToken(member.getId());
-            log.info("로그인 성공: 이메일={}, 회원ID={}", request.getEmail(), member.getId());
-            incrementCounter(loginSuccessCounter);
+            upgradePasswordHashIfNeeded(credentials, request.getPassword());
+
+            phaseStart = System.nanoTime();
+            String token = jwtTokenProvider.createToken(credentials.getId());
+            authMetrics.record(Phase.LOGIN_TOKEN, phaseStart);
+            log.info("로그인 성공: 이메일={}, 회원ID={}", request.getEmail(), credentials.getId());
+            authMetrics.success(Operation.LOGIN);
             return token;
         } catch (Exception e) {
-            log.error("로그인 실패: 이메일={}, 원인={}", request.getEmail(), e.getMessage(), e);
-            incrementCounter(loginFailureCounter);
+            logFailure("로그인", request.getEmail(), e);
+            authMetrics.failure(Operation.LOGIN, e);
             throw e;
         }
     }
 
+    /**
+     * 저장된 해시의 cost가 현재 설정과 다르면 평문 비밀번호로 재해시하여 저장
+     * - 재해시 실패는 로그인 결과에 영향을 주지 않음
+     */
+    private void upgradePasswordHashIfNeeded(MemberCredentials credentials, String rawPassword) {
+        if (!passwordHasher.upgradeEncoding(credentials.getPassword())) {
+            return;
+        }
+        try {
+            memberRepository.updatePassword(credentials.getId(), passwordHasher.encode(rawPassword));
+            log.info("비밀번호 해시 업그레이드: 회원ID={}", credentials.getId());
+        } catch (Exception e) {
+            log.warn("비밀번호 해시 업그레이드 실패: 회원ID={}, 원인={}", credentials.getId(), e.getMessage());
+        }
+    }
+
     /**
      * 회원 정보 조회 메서드
+     * - 캐시 적중 시 트랜잭션(DB 커넥션) 없이 응답
      * @param memberId 회원 ID
      * @return 회원 정보 응답 객체
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public MemberResponse getMemberInfo(Long memberId) {
         log.debug("회원 정보 조회: 회원ID={}", memberId);
-        
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new UserNotFoundException(memberId));
 
-        return MemberResponse.builder()
-                .memberId(member.getId())
-                .name(member.getName())
-                .email(member.getEmail())
-                .phoneNumber(member.getPhoneNumber())
-                .companyName(member.getCompanyName())
-                .position(member.getPosition())
-                .profileImageUrl(member.getProfileImageUrl())
-                .build();
+        return memberProfileCache.get(memberId, this::loadMemberInfo);
+    }
+
+    /**
+     * 내 정보의 현재 ETag (조건부 요청 확인용, DB 조회 없음)
+     * @param memberId 회원 ID
+     * @return 이 노드가 모르면 null (본문을 로딩하여 확인)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getMemberInfoEtag(Long memberId) {
+        return memberProfileCache.getEtagIfPresent(memberId);
+    }
+
+    /**
+     * 내 정보 조회용 직렬화된 응답 본문과 ETag
+     * - 캐시 적중 시 DB 조회와 JSON 직렬화 없이 바이트 그대로 응답
+     * @param memberId 회원 ID
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MemberProfileCache.SerializedProfile getMemberInfoBody(Long memberId) {
+        log.debug("회원 정보 본문 조회: 회원ID={}", memberId);
+
+        return memberProfileCache.getSerialized(memberId, this::loadMemberInfo);
+    }
+
+    /**
+     * 캐시 미스 시 DB에서 회원 정보 로딩 (응답 DTO 프로젝션, 비밀번호 컬럼 제외)
+     * - 최근 변경된 회원은 복제 지연으로 이전 값이 캐시되지 않도록 primary 에서 조회
+     */
+    private MemberResponse loadMemberInfo(Long memberId) {
+        Optional<MemberResponse> found = memberProfileCache.isRecentlyModified(memberId)
+                ? ReplicaDataSourceRouter.onPrimary(() -> memberRepository.findMemberResponseById(memberId))
+                : memberRepository.findMemberResponseById(memberId);
+        return found.orElseThrow(() -> new UserNotFoundException(memberId));
     }
 
     /**
      * 비밀번호 변경 메서드
+     * - 조회와 UPDATE 는 각각 짧은 리포지토리 트랜잭션으로 실행하고, 현재 비밀번호 검증과 새 해시 생성 중에는 DB 커넥션을 잡지 않음
+     * - 직전 변경이 복제본에 반영되지 않았을 수 있으므로 현재 해시는 primary 에서 조회
      * @param memberId 회원 ID
      * @param request 비밀번호 변경 요청 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(Long memberId, ChangePasswordRequest request) {
         log.info("비밀번호 변경 시도: 회원ID={}", memberId);
-        
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new UserNotFoundException(memberId));
 
-        // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), member.getPassword())) {
-            throw new InvalidCredentialsException("현재 비밀번호가 일치하지 않습니다.");
-        }
+        try {
+            long phaseStart = System.nanoTime();
+            Optional<MemberCredentials> found = ReplicaDataSourceRouter.onPrimary(() -> memberRepository.findCredentialsById(memberId));
+            authMetrics.record(Phase.CHANGE_PASSWORD_LOOKUP, phaseStart);
+            MemberCredentials credentials = found.orElseThrow(() -> new UserNotFoundException(memberId));
 
-        // 새 비밀번호 유효성 검사
-        if (request.getNewPassword() == null || request.getNewPassword().length() < 8) {
-            throw new InvalidInputException("newPassword", "새 비밀번호는 8자 이상이어야 합니다.");
-        }
-        if (!request.getNewPassword().equals(request.getConfirmPassword())) {
-            throw new InvalidInputException("confirmPassword", "새 비밀번호가 일치하지 않습니다.");
-        }
+            // 현재 비밀번호 확인
+            phaseStart = System.nanoTime();
+            boolean matched = passwordHasher.matches(request.getCurrentPassword(), credentials.getPassword());
+            authMetrics.record(Phase.CHANGE_PASSWORD_HASH_VERIFY, phaseStart);
+            if (!matched) {
+                throw new InvalidCredentialsException("현재 비밀번호가 일치하지 않습니다.");
+            }
 
-        // 비밀번호 변경
-        member.changePassword(passwordEncoder.encode(request.getNewPassword()));
-        memberRepository.save(member);
-        log.info("비밀번호 변경 성공: 회원ID={}", memberId);
+            // 새 비밀번호 유효성 검사
+            if (request.getNewPassword() == null || request.getNewPassword().length() < 8) {
+                throw new InvalidInputException("newPassword", "새 비밀번호는 8자 이상이어야 합니다.");
+            }
+            if (!request.getNewPassword().equals(request.getConfirmPassword())) {
+                throw new InvalidInputException("confirmPassword", "새 비밀번호가 일치하지 않습니다.");
+            }
+
+            // 비밀번호 변경
+            phaseStart = System.nanoTime();
+            String encodedPassword = passwordHasher.encode(request.getNewPassword());
+            authMetrics.record(Phase.CHANGE_PASSWORD_HASH, phaseStart);
+
+            phaseStart = System.nanoTime();
+            memberRepository.updatePassword(memberId, encodedPassword);
+            authMetrics.record(Phase.CHANGE_PASSWORD_UPDATE, phaseStart);
+            memberProfileCache.evict(memberId);
+            log.info("비밀번호 변경 성공: 회원ID={}", memberId);
+            authMetrics.success(Operation.CHANGE_PASSWORD);
+        } catch (Exception e) {
+            authMetrics.failure(Operation.CHANGE_PASSWORD, e);
+            throw e;
+        }
     }
 
     /**
      * 프로필 이미지 업데이트 메서드
+     * - S3 업로드가 끝난 뒤에만 회원 행을 갱신 (업로드 중에는 트랜잭션/DB 커넥션을 잡지 않음)
      * @param memberId 회원 ID
      * @param file 업로드된 이미지 파일
-     * @return 이미지 URL
+     * @return 이미지 URL (업로드 및 DB 갱신 완료 시 완료되는 Future)
      */
-    @Transactional
-    public String updateProfileImage(Long memberId, MultipartFile file) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<String> updateProfileImage(Long memberId, MultipartFile file) {
         log.info("프로필 이미지 변경 시도: 회원ID={}", memberId);
-        
+
+        long uploadStart = System.nanoTime();
+        CompletableFuture<String> upload;
         try {
             // 파일 저장
-            String imageUrl = fileStorageService.store(file);
+            upload = fileStorageService.storeAsync(file);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(profileImageFailure(memberId, e));
+        }
 
-            // 사용자 조회 및 이미지 경로 업데이트
-            Member member = memberRepository.findById(memberId)
-                    .orElseThrow(() -> new UserNotFoundException(memberId));
+        return upload
+                .thenApply(imageUrl -> {
+                    authMetrics.record(Phase.PROFILE_IMAGE_UPLOAD, uploadStart);
+                    return applyProfileImage(memberId, imageUrl);
+                })
+                .exceptionally(e -> {
+                    throw profileImageFailure(memberId, e instanceof CompletionException && e.getCause() != null
+                            ? e.getCause() : e);
+                });
+    }
 
-            member.updateProfileImageUrl(imageUrl);
-            memberRepository.save(member);
-            log.info("프로필 이미지 변경 성공: 회원ID={}, 이미지URL={}", memberId, imageUrl);
-            return imageUrl;
-        } catch (Exception e) {
-            log.error("프로필 이미지 변경 실패: 회원ID={}, 원인={}", memberId, e.getMessage(), e);
-            throw new FileStorageException("프로필 이미지 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
+    /**
+     * 프로필 이미지 직접 업로드 URL 발급 메서드
+     * @param memberId 회원 ID
+     * @param request 업로드할 파일의 콘텐츠 타입과 크기
+     * @return presigned PUT URL 정보
+     */
+    public ProfileImageUploadUrlResponse createProfileImageUploadUrl(Long memberId, ProfileImageUploadUrlRequest request) {
+        log.info("프로필 이미지 업로드 URL 발급: 회원ID={}, 타입={}, 크기={}B",
+                memberId, request.getContentType(), request.getContentLength());
+        return fileStorageService.presignUpload(memberId, request.getContentType(), request.getContentLength());
+    }
+
+    /**
+     * 프로필 이미지 직접 업로드 확인 메서드
+     * - 업로드된 객체를 검증한 뒤 회원 행 갱신 (검증 중에는 DB 커넥션을 잡지 않음)
+     * @param memberId 회원 ID
+     * @param request 업로드한 객체 키
+     * @return 이미지 URL
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String confirmProfileImageUpload(Long memberId, ProfileImageConfirmRequest request) {
+        log.info("프로필 이미지 업로드 확인 시도: 회원ID={}, key={}", memberId, request.getKey());
+
+        String imageUrl = fileStorageService.confirmUpload(memberId, request.getKey());
+        return applyProfileImage(memberId, imageUrl);
+    }
+
+    /**
+     * 저장이 끝난 이미지를 회원 프로필 이미지로 반영
+     * - 한 트랜잭션(primary)에서 이전 URL 행 잠금 조회, 이미지 경로 업데이트, 공유 이미지 참조 수 갱신
+     *   (새 이미지 +1, 이전 이미지 -1; 동시 변경은 행 잠금으로 직렬화되고, 중간에 실패하면 모두 롤백)
+     * - 크기별 변형 생성은 커밋 이후 요청 경로 밖에서 진행
+     * - 비동기 업로드 완료 콜백에서도 호출되므로 @Transactional 대신 TransactionTemplate 사용
+     */
+    private String applyProfileImage(Long memberId, String imageUrl) {
+        long phaseStart = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            String previousUrl = memberRepository.findProfileImageUrlByIdForUpdate(memberId).orElse(null);
+            if (memberRepository.updateProfileImageUrl(memberId, imageUrl) == 0) {
+                throw new UserNotFoundException(memberId);
+            }
+            if (!imageUrl.equals(previousUrl)) {
+                fileStorageService.retain(imageUrl);
+                fileStorageService.release(previousUrl);
+            }
+            memberProfileCache.evict(memberId);
+        });
+        authMetrics.record(Phase.PROFILE_IMAGE_UPDATE, phaseStart);
+        profileImageProcessor.submit(memberId, imageUrl);
+        log.info("프로필 이미지 변경 성공: 회원ID={}, 이미지URL={}", memberId, imageUrl);
+        authMetrics.success(Operation.UPDATE_PROFILE_IMAGE);
+        return imageUrl;
+    }
+
+    private AuthException profileImageFailure(Long memberId, Throwable e) {
+        authMetrics.failure(Operation.UPDATE_PROFILE_IMAGE, e);
+        if (e instanceof ServiceOverloadedException overloaded) {
+            // 전송 실행기 포화: 503 그대로 전달
+            log.warn("프로필 이미지 변경 거부: 회원ID={}, 원인={}", memberId, e.getMessage());
+            return overloaded;
         }
+        log.error("프로필 이미지 변경 실패: 회원ID={}, 원인={}", memberId, e.getMessage(), e);
+        return new FileStorageException("프로필 이미지 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
     }
 
     /**
      * 프로필 이미지 URL 조회 메서드
+     * - 회원 정보 캐시에 있으면 사용하고, 없으면 URL 컬럼만 조회
      * @param memberId 회원 ID
      * @return 이미지 URL
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public String getProfileImageUrl(Long memberId) {
         log.debug("프로필 이미지 URL 조회: 회원ID={}", memberId);
-        
-        return memberRepository.findById(memberId)
-                .map(Member::getProfileImageUrl)
-                .orElseThrow(() -> new UserNotFoundException(memberId));
+
+        MemberResponse cached = memberProfileCache.getIfPresent(memberId);
+        Optional<String> imageUrl = cached != null
+                ? Optional.ofNullable(cached.getProfileImageUrl())
+                : memberRepository.findProfileImageUrlById(memberId);
+        return imageUrl.orElseThrow(() -> new UserNotFoundException(memberId));
     }
 }
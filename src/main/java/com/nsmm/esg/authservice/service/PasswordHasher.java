@@ -0,0 +1,157 @@
+/**
+ * 비밀번호 해시/검증 전용 실행기
+ * - BCrypt 연산을 코어 수 크기의 전용 스레드 풀에서 수행하여 Tomcat 요청 스레드 고갈 방지
+ * - 대기열이 가득 차면 무한 대기 대신 즉시 503으로 거절
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${auth.hashing.pool-size:0}") int poolSize,
+                          @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+                          ObjectProvider<MeterRegistry> registryProvider) {
+        this.passwordEncoder = passwordEncoder;
+
+        // 0 이하이면 CPU 코어 수만큼 (해시는 순수 CPU 작업)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HasherThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("비밀번호 해시 풀 초기화: 스레드={}, 대기열={}", threads, queueCapacity);
+
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("auth.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(registry);
+        Gauge.builder("auth.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시 실행 중 스레드 수")
+                .register(registry);
+        this.waitTimer = Timer.builder("auth.hash.wait")
+                .description("비밀번호 해시 대기열 대기 시간")
+                .register(registry);
+        this.encodeTimer = Timer.builder("auth.hash.duration")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", "encode")
+                .register(registry);
+        this.matchTimer = Timer.builder("auth.hash.duration")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", "matches")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("auth.hash.rejected")
+                .description("대기열 초과로 거절된 해시 요청 수")
+                .register(registry);
+    }
+
+    /**
+     * 비밀번호 해시
+     * @throws ServiceOverloadedException 해시 대기열이 가득 찬 경우
+     */
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 일치 여부 검사
+     * @throws ServiceOverloadedException 해시 대기열이 가득 찬 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시를 현재 설정(cost)으로 다시 해시해야 하는지 여부
+     * - 해시 문자열의 접두부만 확인하므로 전용 풀을 거치지 않음
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Timer durationTimer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 해시 전용 플랫폼 스레드 생성 (스레드 덤프에서 식별 가능하도록 이름 지정)
+     * - 가상 스레드 모드에서도 CPU 집약적인 BCrypt 연산이 캐리어 스레드를 점유하지 않도록 항상 플랫폼 스레드 사용
+     */
+    private static class HasherThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * 프로필 이미지 변형 생성 파이프라인
+ * - 원본 업로드 이후 요청 경로 밖에서 원본을 한 번 디코딩하여 크기별 JPEG 변형 생성
+ * - 변형은 원본 키로부터 정해지는 고정 키에 저장 (profile-images/{id}/{size}.jpg)
+ * - 제한된 작업 풀에서 실행, 풀이 가득 차면 변형 생성을 건너뜀 (원본은 그대로 사용 가능)
+ */
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.image.ImageVariants;
+import com.nsmm.esg.authservice.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class ProfileImageProcessor {
+
+    private final FileStorageService fileStorageService;
+    private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer processTimer;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+
+    public ProfileImageProcessor(FileStorageService fileStorageService,
+                                 MemberRepository memberRepository,
+                                 MemberProfileCache memberProfileCache,
+                                 @Value("${auth.image.pool-size:0}") int poolSize,
+                                 @Value("${auth.image.queue-capacity:100}") int queueCapacity,
+                                 ObjectProvider<MeterRegistry> registryProvider) {
+        this.fileStorageService = fileStorageService;
+        this.memberRepository = memberRepository;
+        this.memberProfileCache = memberProfileCache;
+
+        // 0 이하이면 CPU 코어 수의 절반 (해시 풀과 CPU를 나눠 씀)
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processor-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        MeterRegistry registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("auth.image.queue.depth", executor, e -> e.getQueue().size())
+                .description("프로필 이미지 변환 대기열 길이")
+                .register(registry);
+        this.processTimer = Timer.builder("auth.image.process")
+                .description("프로필 이미지 변형 생성 시간 (디코딩, 축소, 인코딩, 업로드)")
+                .register(registry);
+        this.failureCounter = Counter.builder("auth.image.process.failure")
+                .description("프로필 이미지 변형 생성 실패 수")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("auth.image.process.rejected")
+                .description("대기열 초과로 건너뛴 변형 생성 수")
+                .register(registry);
+    }
+
+    /**
+     * 변형 생성 작업 등록 (즉시 반환)
+     * @param memberId 회원 ID
+     * @param imageUrl 원본 이미지 URL
+     */
+    public void submit(Long memberId, String imageUrl) {
+        try {
+            executor.execute(() -> processTimer.record(() -> process(memberId, imageUrl)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("프로필 이미지 변환 대기열 초과로 변형 생성을 건너뜀: 회원ID={}", memberId);
+        }
+    }
+
+    private void process(Long memberId, String imageUrl) {
+        try {
+            String originalKey = fileStorageService.keyOf(imageUrl);
+            String variantPrefix = ImageVariants.variantPrefix(originalKey);
+
+            // 같은 내용의 이미지는 같은 키를 쓰므로, 변형이 이미 있으면 다시 만들지 않음
+            if (!variantsExist(variantPrefix)) {
+                generateVariants(originalKey, variantPrefix);
+            }
+
+            // 그사이 다른 이미지로 바뀌었으면 갱신하지 않음
+            if (memberRepository.updateProfileImageVariants(memberId, imageUrl, fileStorageService.urlFor(variantPrefix)) > 0) {
+                memberProfileCache.evict(memberId);
+            }
+            log.info("프로필 이미지 변형 생성 완료: 회원ID={}, 키={}", memberId, variantPrefix);
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("프로필 이미지 변형 생성 실패: 회원ID={}, 원인={}", memberId, e.getMessage(), e);
+        }
+    }
+
+    private void generateVariants(String originalKey, String variantPrefix) throws IOException {
+        BufferedImage source;
+        try (InputStream inputStream = fileStorageService.open(originalKey)) {
+            source = ImageVariants.decode(inputStream);
+        }
+
+        for (int size : ImageVariants.SIZES) {
+            byte[] jpeg = ImageVariants.encodeJpeg(ImageVariants.resizeSquare(source, size));
+            fileStorageService.putBytes(ImageVariants.variantKey(variantPrefix, size), jpeg, "image/jpeg");
+        }
+    }
+
+    // 가장 큰 변형은 마지막에 저장되므로 이것이 있으면 전체가 있는 것으로 간주
+    private boolean variantsExist(String variantPrefix) {
+        int largest = ImageVariants.SIZES.get(ImageVariants.SIZES.size() - 1);
+        return fileStorageService.exists(ImageVariants.variantKey(variantPrefix, largest));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
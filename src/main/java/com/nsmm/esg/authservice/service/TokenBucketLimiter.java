@@ -0,0 +1,125 @@
+/**
+ * 락 분할(striped) 토큰 버킷 제한기
+ * - 키를 해시로 stripe에 나누고, stripe마다 접근 순서 LinkedHashMap + 락으로 버킷 관리
+ * - 버킷은 가변 필드 두 개(토큰 수, 마지막 충전 시각)만 가지며 stripe 락 안에서만 갱신 (요청당 할당 없음)
+ * - stripe별 최대 키 수를 넘거나 가장 오래 사용되지 않은 버킷이 유휴 시간을 넘으면 제거 (메모리 상한)
+ */
+package com.nsmm.esg.authservice.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class TokenBucketLimiter {
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+
+    /**
+     * @param capacity 버킷 최대 토큰 수 (연속 허용 횟수)
+     * @param refillPerMinute 분당 충전 토큰 수
+     * @param maxKeys 전체 최대 키 수 (stripe 수로 나누어 stripe별 상한 결정)
+     * @param idleSeconds 이 시간 동안 사용되지 않은 버킷은 제거 대상
+     * @param stripeCount stripe 수 (2의 거듭제곱으로 올림)
+     */
+    TokenBucketLimiter(int capacity, int refillPerMinute, int maxKeys, long idleSeconds, int stripeCount) {
+        int stripesSize = 1;
+        while (stripesSize < stripeCount) {
+            stripesSize <<= 1;
+        }
+        this.stripes = new Stripe[stripesSize];
+        this.stripeMask = stripesSize - 1;
+        int perStripe = Math.max(1, maxKeys / stripesSize);
+        for (int i = 0; i < stripesSize; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds);
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 허용되면 0, 거부되면 다음 토큰까지 남은 시간 (나노초)
+     */
+    long tryAcquire(String key, long nowNanos) {
+        Stripe stripe = stripes[spread(key.hashCode()) & stripeMask];
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                stripe.evictIdle(nowNanos);
+                bucket = new Bucket(capacity, nowNanos);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (nowNanos - bucket.lastRefillNanos) * tokensPerNano);
+                bucket.lastRefillNanos = nowNanos;
+            }
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 보관 중인 버킷 수 (메트릭용, 근사값)
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long lastRefillNanos;
+
+        Bucket(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+
+    private final class Stripe {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<String, Bucket> buckets;
+
+        Stripe(int maxEntries) {
+            // 접근 순서 유지, 상한을 넘으면 가장 오래 사용되지 않은 버킷 제거
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        // 새 버킷 추가 시 가장 오래된 쪽부터 유휴 버킷 정리 (접근 순서이므로 유휴가 아닌 버킷을 만나면 중단)
+        void evictIdle(long nowNanos) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            while (iterator.hasNext()) {
+                if (nowNanos - iterator.next().lastRefillNanos < idleNanos) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+    }
+}
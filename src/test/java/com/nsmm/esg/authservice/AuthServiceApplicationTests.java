@@ -3,7 +3,7 @@ package com.nsmm.esg.authservice;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "jwt.signing.allow-ephemeral-key=true")
 class AuthServiceApplicationTests {
 
 	@Test
@@ -0,0 +1,124 @@
+package com.nsmm.esg.authservice.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB(primary, replica)로 읽기-쓰기 라우팅 확인
+ */
+class DataSourceRoutingTests {
+
+    private String primaryUrl;
+    private String replicaUrl;
+    private ReplicaDataSourceRouter router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        String suffix = UUID.randomUUID().toString();
+        primaryUrl = "jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1";
+        replicaUrl = "jdbc:h2:mem:replica-" + suffix + ";DB_CLOSE_DELAY=-1";
+        execute(primaryUrl, "CREATE TABLE node (name VARCHAR(20))", "INSERT INTO node VALUES ('primary')");
+        execute(replicaUrl, "CREATE TABLE node (name VARCHAR(20))", "INSERT INTO node VALUES ('replica')",
+                "CREATE TABLE replica_status (seconds_behind_source BIGINT)", "INSERT INTO replica_status VALUES (0)");
+
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(primaryUrl);
+        dataSourceProperties.setUsername("sa");
+        dataSourceProperties.setDriverClassName("org.h2.Driver");
+
+        DataSourceRoutingProperties.Replica replica = new DataSourceRoutingProperties.Replica();
+        replica.setName("1");
+        replica.setUrl(replicaUrl);
+        replica.setUsername("sa");
+
+        DataSourceRoutingProperties routingProperties = new DataSourceRoutingProperties();
+        routingProperties.setReplicas(List.of(replica));
+        routingProperties.setMaxLagSeconds(5);
+        routingProperties.setHealthCheckIntervalSeconds(3600);
+        routingProperties.setLagQuery("SELECT seconds_behind_source FROM replica_status");
+        routingProperties.setLagColumn("seconds_behind_source");
+
+        router = DataSourceRoutingConfig.create(dataSourceProperties, routingProperties, new SimpleMeterRegistry());
+        DataSource dataSource = DataSourceRoutingConfig.routingDataSource(router);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.close();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void onPrimaryOverridesReadOnlyRouting() {
+        String node = ReplicaDataSourceRouter.onPrimary(() -> readOnly.execute(status -> currentNode()));
+
+        assertThat(node).isEqualTo("primary");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        execute(replicaUrl, "UPDATE replica_status SET seconds_behind_source = 30");
+        router.refreshHealth();
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+
+        execute(replicaUrl, "UPDATE replica_status SET seconds_behind_source = 1");
+        router.refreshHealth();
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void stoppedReplicationFallsBackToPrimary() throws SQLException {
+        execute(replicaUrl, "UPDATE replica_status SET seconds_behind_source = NULL");
+        router.refreshHealth();
+
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void execute(String url, String... statements) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
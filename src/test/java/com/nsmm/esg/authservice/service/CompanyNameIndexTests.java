@@ -0,0 +1,122 @@
+package com.nsmm.esg.authservice.service;
+
+import com.nsmm.esg.authservice.dto.CompanySuggestion;
+import com.nsmm.esg.authservice.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회사명 자동완성 인덱스: 정규화, 회원 수 순 상위 k개 유지, 재구축 중 가입 반영 확인
+ */
+class CompanyNameIndexTests {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+
+    @Test
+    void normalizeTrimsCollapsesWhitespaceAndLowercases() {
+        assertThat(CompanyNameIndex.normalize("  Green   Energy\tCo ")).isEqualTo("green energy co");
+        assertThat(CompanyNameIndex.normalize("그린 에너지")).isEqualTo("그린 에너지");
+        assertThat(CompanyNameIndex.normalize("   ")).isNull();
+        assertThat(CompanyNameIndex.normalize(null)).isNull();
+    }
+
+    @Test
+    void suggestsByMemberCountThenNameIgnoringCaseAndSpacing() {
+        CompanyNameIndex index = build(3,
+                new CompanySuggestion("Green Energy", 5L),
+                new CompanySuggestion("Green Chemical", 9L),
+                new CompanySuggestion("Greenhouse", 5L),
+                new CompanySuggestion("Grid Logistics", 20L),
+                new CompanySuggestion("Solar", 100L));
+
+        assertThat(names(index.suggest("  GREEN ", 10)))
+                .containsExactly("Green Chemical", "Green Energy", "Greenhouse");
+        assertThat(names(index.suggest("gr", 10)))
+                .containsExactly("Grid Logistics", "Green Chemical", "Green Energy");
+        assertThat(names(index.suggest("gr", 2))).containsExactly("Grid Logistics", "Green Chemical");
+        assertThat(index.suggest("green e", 10))
+                .extracting(CompanySuggestion::getMemberCount)
+                .containsExactly(5L);
+        assertThat(index.suggest("blue", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void signupsReorderTopKAndAddNewCompanies() {
+        CompanyNameIndex index = build(2,
+                new CompanySuggestion("Alpha", 3L),
+                new CompanySuggestion("Beta", 2L),
+                new CompanySuggestion("Apex", 1L));
+
+        assertThat(names(index.suggest("a", 10))).containsExactly("Alpha", "Apex");
+
+        index.add("apex");
+        index.add(" Apex ");
+        index.add("APEX");
+        assertThat(index.suggest("a", 10))
+                .extracting(CompanySuggestion::getCompanyName, CompanySuggestion::getMemberCount)
+                .containsExactly(tuple("Apex", 4L), tuple("Alpha", 3L));
+
+        // 새 회사는 자기 접두어에는 나타나지만, 회원 수가 적으면 공통 접두어의 상위 k개에는 들지 못함
+        index.add("Another");
+        assertThat(names(index.suggest("an", 10))).containsExactly("Another");
+        assertThat(names(index.suggest("a", 10))).containsExactly("Apex", "Alpha");
+    }
+
+    @Test
+    void returnsEmptyUntilBuilt() {
+        CompanyNameIndex index = new CompanyNameIndex(memberRepository, 10, noRegistry());
+        index.add("Alpha");
+
+        assertThat(index.suggest("a", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildCountsSignupsDuringBuildOnceAndKeepsServingOldIndex() {
+        CompanyNameIndex index = build(10, new CompanySuggestion("Alpha", 3L));
+
+        // 집계 조회 이후(스트리밍 중) 가입: 집계에는 없고 교체 직전에 다시 반영되어야 함
+        when(memberRepository.streamCompanyCounts()).thenReturn(Stream.of(new CompanySuggestion("Alpha", 3L))
+                .peek(company -> {
+                    index.add("Alpha");
+                    index.add("Beta");
+                    // 구축 중에는 기존 인덱스로 응답
+                    assertThat(index.suggest("alpha", 10))
+                            .extracting(CompanySuggestion::getMemberCount)
+                            .containsExactly(4L);
+                }));
+        index.build();
+
+        assertThat(index.suggest("alpha", 10))
+                .extracting(CompanySuggestion::getMemberCount)
+                .containsExactly(4L);
+        assertThat(index.suggest("beta", 10))
+                .extracting(CompanySuggestion::getMemberCount)
+                .containsExactly(1L);
+    }
+
+    private CompanyNameIndex build(int topK, CompanySuggestion... companies) {
+        when(memberRepository.streamCompanyCounts()).thenReturn(Stream.of(companies));
+        CompanyNameIndex index = new CompanyNameIndex(memberRepository, topK, noRegistry());
+        index.build();
+        return index;
+    }
+
+    private static ObjectProvider<MeterRegistry> noRegistry() {
+        return new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class);
+    }
+
+    private static List<String> names(List<CompanySuggestion> suggestions) {
+        return suggestions.stream().map(CompanySuggestion::getCompanyName).toList();
+    }
+}
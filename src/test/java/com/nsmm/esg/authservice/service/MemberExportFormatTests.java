@@ -0,0 +1,80 @@
+package com.nsmm.esg.authservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 내보내기 출력 형식: CSV 이스케이프, NDJSON 한 줄 한 객체, 비밀번호 제외
+ * - 페이지 크기를 행 수보다 작게 두어 키셋 페이지 경계도 함께 확인
+ */
+class MemberExportFormatTests {
+
+    private static DriverManagerDataSource dataSource;
+    private static MemberExportService exportService;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:export-format;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table member (id bigint auto_increment primary key, name varchar(100) not null, "
+                + "email varchar(255) not null unique, phone_number varchar(20), company_name varchar(100), "
+                + "position varchar(50), password varchar(255) not null, profile_image_url varchar(500), "
+                + "profile_image_variant_base_url varchar(500))");
+        jdbcTemplate.update("insert into member (id, name, email, company_name, password) values (1, '홍, \"길동\"', "
+                + "'hong@example.com', 'NSMM', 'secret-hash')");
+        jdbcTemplate.update("insert into member (id, name, email, phone_number, position, password) values (2, 'member1', "
+                + "'member1@example.com', '010-0000-0000', '매니저', 'secret-hash')");
+        jdbcTemplate.update("insert into member (id, name, email, password, profile_image_url) values (3, 'member2', "
+                + "'member2@example.com', 'secret-hash', 'https://cdn.example.com/profile/3.png')");
+
+        exportService = new MemberExportService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                new ObjectMapper(), 2);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        new JdbcTemplate(dataSource).execute("shutdown");
+    }
+
+    @Test
+    void csvExportEscapesValuesAndOmitsPasswords() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(out, MediaType.parseMediaType("text/csv"));
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(count).isEqualTo(3);
+        assertThat(body.split("\n")).containsExactly(
+                "memberId,name,email,phoneNumber,companyName,position,profileImageUrl",
+                "1,\"홍, \"\"길동\"\"\",hong@example.com,,NSMM,,",
+                "2,member1,member1@example.com,010-0000-0000,,매니저,",
+                "3,member2,member2@example.com,,,,https://cdn.example.com/profile/3.png");
+        assertThat(body).doesNotContain("secret-hash");
+    }
+
+    @Test
+    void ndjsonExportWritesOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(out, MediaType.APPLICATION_NDJSON);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"memberId\":1,\"name\":\"홍, \\\"길동\\\"\"");
+        assertThat(lines[1]).isEqualTo("{\"memberId\":2,\"name\":\"member1\",\"email\":\"member1@example.com\","
+                + "\"phoneNumber\":\"010-0000-0000\",\"companyName\":null,\"position\":\"매니저\",\"profileImageUrl\":null}");
+        assertThat(lines[2]).startsWith("{\"memberId\":3,");
+        assertThat(body).doesNotContain("secret-hash");
+    }
+}
@@ -0,0 +1,98 @@
+package com.nsmm.esg.authservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 내보내기: 백만 건을 내보내는 동안 힙 사용량이 늘지 않는지 확인
+ * - 백만 건 적재와 반복 GC 로 오래 걸리므로 heavy 태그 (./gradlew heavyTest 로 실행)
+ * - 출력 형식은 MemberExportFormatTests 에서 기본 test 태스크로 확인
+ */
+@Tag("heavy")
+class MemberExportServiceTests {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final long SAMPLE_EVERY_BYTES = 8L * 1024 * 1024;
+
+    private static DriverManagerDataSource dataSource;
+    private static MemberExportService exportService;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:export;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table member (id bigint auto_increment primary key, name varchar(100) not null, "
+                + "email varchar(255) not null unique, phone_number varchar(20), company_name varchar(100), "
+                + "position varchar(50), password varchar(255) not null, profile_image_url varchar(500), "
+                + "profile_image_variant_base_url varchar(500))");
+        jdbcTemplate.update("insert into member (id, name, email, password) "
+                + "select x, 'member' || x, 'member' || x || '@example.com', 'secret-hash' "
+                + "from system_range(1, " + ROW_COUNT + ")");
+
+        exportService = new MemberExportService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                new ObjectMapper(), 1000);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        new JdbcTemplate(dataSource).execute("shutdown");
+    }
+
+    @Test
+    void heapStaysFlatWhileExportingMillionRows() throws Exception {
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+        long count = exportService.export(out, MediaType.APPLICATION_NDJSON);
+
+        assertThat(count).isEqualTo(ROW_COUNT);
+        assertThat(out.samples).hasSizeGreaterThan(5);
+
+        // 첫 표본 이후 힙 증가가 페이지 몇 개 분량을 넘지 않아야 함 (전체를 모으면 수백 MB)
+        long first = out.samples.get(0);
+        long peak = out.samples.stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertThat(peak - first).isLessThan(16L * 1024 * 1024);
+    }
+
+    /**
+     * 내용은 버리고, 일정 바이트마다 GC 후 힙 사용량을 기록
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final List<Long> samples = new ArrayList<>();
+        private long written;
+        private long nextSample = SAMPLE_EVERY_BYTES;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            written += len;
+            if (written >= nextSample) {
+                nextSample += SAMPLE_EVERY_BYTES;
+                System.gc();
+                samples.add(memory.getHeapMemoryUsage().getUsed());
+            }
+        }
+    }
+}
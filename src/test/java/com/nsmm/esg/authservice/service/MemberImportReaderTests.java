@@ -0,0 +1,116 @@
+package com.nsmm.esg.authservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.authservice.exception.InvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일괄 가입 본문 읽기: BOM, 헤더 별칭, 따옴표 처리, 공백 처리, 잘못된 행의 행 단위 오류 확인
+ */
+class MemberImportReaderTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csvSkipsBomAndAcceptsHeaderAliasesInAnyOrder() throws IOException {
+        List<MemberImportReader.Row> rows = read(MemberImportReader.Format.CSV,
+                "\uFEFFName,E-Mail,password,phone_number,COMPANY_NAME,Position,memo\n"
+                        + "홍길동,hong@example.com,password1,010-0000-0000,NSMM,매니저,무시됨\n");
+
+        // e-mail 은 하이픈만 제거되어 email 로 인식
+        assertThat(rows).hasSize(1);
+        MemberImportReader.Row row = rows.get(0);
+        assertThat(row.line()).isEqualTo(2);
+        assertThat(row.error()).isNull();
+        assertThat(row.request().getName()).isEqualTo("홍길동");
+        assertThat(row.request().getEmail()).isEqualTo("hong@example.com");
+        assertThat(row.request().getPhoneNumber()).isEqualTo("010-0000-0000");
+        assertThat(row.request().getCompanyName()).isEqualTo("NSMM");
+        assertThat(row.request().getPosition()).isEqualTo("매니저");
+    }
+
+    @Test
+    void csvHeaderWithoutRequiredColumnIsRejected() {
+        assertThatThrownBy(() -> read(MemberImportReader.Format.CSV, "email,name\nhong@example.com,홍길동\n"))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    void csvQuotedValuesKeepCommasAndEscapedQuotes() throws IOException {
+        List<MemberImportReader.Row> rows = read(MemberImportReader.Format.CSV,
+                "email,password,name,company_name\n"
+                        + "hong@example.com,password1,\"홍, \"\"길동\"\"\",\"A, B \"\"Co\"\"\"\n");
+
+        assertThat(rows.get(0).request().getName()).isEqualTo("홍, \"길동\"");
+        assertThat(rows.get(0).request().getCompanyName()).isEqualTo("A, B \"Co\"");
+    }
+
+    @Test
+    void csvUnclosedQuoteIsRowErrorAndReadingContinues() throws IOException {
+        List<MemberImportReader.Row> rows = read(MemberImportReader.Format.CSV,
+                "email,password,name\n"
+                        + "hong@example.com,password1,\"홍길동\n"
+                        + "kim@example.com,password1,김철수\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).line()).isEqualTo(2);
+        assertThat(rows.get(0).request()).isNull();
+        assertThat(rows.get(0).error()).isEqualTo("따옴표가 닫히지 않았습니다.");
+        assertThat(rows.get(1).request().getEmail()).isEqualTo("kim@example.com");
+    }
+
+    @Test
+    void csvTrimsValuesExceptPasswordAndTreatsEmptyAsNull() throws IOException {
+        List<MemberImportReader.Row> rows = read(MemberImportReader.Format.CSV,
+                "email,password,name,position\n"
+                        + "  hong@example.com , pass word ,  홍길동 ,   \n");
+
+        MemberImportReader.Row row = rows.get(0);
+        assertThat(row.request().getEmail()).isEqualTo("hong@example.com");
+        assertThat(row.request().getPassword()).isEqualTo(" pass word ");
+        assertThat(row.request().getName()).isEqualTo("홍길동");
+        assertThat(row.request().getPosition()).isNull();
+        assertThat(row.request().getPhoneNumber()).isNull();
+    }
+
+    @Test
+    void ndjsonSkipsBlankLinesAndReportsNullAndMalformedLines() throws IOException {
+        List<MemberImportReader.Row> rows = read(MemberImportReader.Format.NDJSON,
+                "\uFEFF{\"email\":\"hong@example.com\",\"password\":\" password1 \",\"name\":\"홍길동\"}\n"
+                        + "\n"
+                        + "   \n"
+                        + "null\n"
+                        + "{\"email\":\n"
+                        + "{\"email\":\"kim@example.com\",\"password\":\"password1\",\"name\":\"김철수\"}\n");
+
+        assertThat(rows).extracting(MemberImportReader.Row::line).containsExactly(1, 4, 5, 6);
+        assertThat(rows.get(0).request().getPassword()).isEqualTo(" password1 ");
+        assertThat(rows.get(1).request()).isNull();
+        assertThat(rows.get(1).error()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+        assertThat(rows.get(2).request()).isNull();
+        assertThat(rows.get(2).error()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+        assertThat(rows.get(3).request().getEmail()).isEqualTo("kim@example.com");
+    }
+
+    private List<MemberImportReader.Row> read(MemberImportReader.Format format, String body) throws IOException {
+        List<MemberImportReader.Row> rows = new ArrayList<>();
+        try (MemberImportReader reader = new MemberImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            MemberImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
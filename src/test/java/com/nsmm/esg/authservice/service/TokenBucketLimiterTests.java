@@ -0,0 +1,88 @@
+package com.nsmm.esg.authservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 토큰 버킷 제한기: 충전, 재시도 대기 시간, 유휴 버킷 제거, 최대 키 수(LRU) 상한 확인
+ * - 시각은 나노초 값을 직접 넘겨 실제 시간과 무관하게 검증
+ */
+class TokenBucketLimiterTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long T0 = 1_000 * SECOND;
+
+    @Test
+    void allowsBurstUpToCapacityThenRefillsOverTime() {
+        // 연속 2회, 초당 1개 충전
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 60, 100, 900, 1);
+
+        assertThat(limiter.tryAcquire("ip", T0)).isZero();
+        assertThat(limiter.tryAcquire("ip", T0)).isZero();
+        assertThat(limiter.tryAcquire("ip", T0)).isPositive();
+
+        assertThat(limiter.tryAcquire("ip", T0 + SECOND)).isZero();
+        assertThat(limiter.tryAcquire("ip", T0 + SECOND)).isPositive();
+
+        // 오래 쉬어도 capacity 까지만 충전
+        assertThat(limiter.tryAcquire("ip", T0 + 60 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("ip", T0 + 60 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("ip", T0 + 60 * SECOND)).isPositive();
+    }
+
+    @Test
+    void rejectionReturnsTimeUntilNextToken() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 60, 100, 900, 1);
+
+        assertThat(limiter.tryAcquire("email", T0)).isZero();
+        assertThat(limiter.tryAcquire("email", T0)).isCloseTo(SECOND, within(1_000L));
+
+        // 0.25초 지나면 남은 대기 시간은 0.75초
+        assertThat(limiter.tryAcquire("email", T0 + SECOND / 4)).isCloseTo(3 * SECOND / 4, within(1_000L));
+    }
+
+    @Test
+    void keysAreIndependent() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 100, 900, 4);
+
+        assertThat(limiter.tryAcquire("a", T0)).isZero();
+        assertThat(limiter.tryAcquire("a", T0)).isPositive();
+        assertThat(limiter.tryAcquire("b", T0)).isZero();
+    }
+
+    @Test
+    void idleBucketsAreEvictedWhenNewKeyArrives() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 100, 10, 1);
+
+        limiter.tryAcquire("a", T0);
+        limiter.tryAcquire("b", T0 + 5 * SECOND);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // a 만 유휴 시간(10초) 초과
+        limiter.tryAcquire("c", T0 + 11 * SECOND);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // 제거된 a 는 가득 찬 새 버킷으로 시작 (b 는 아직 토큰 없음)
+        assertThat(limiter.tryAcquire("b", T0 + 12 * SECOND)).isPositive();
+        assertThat(limiter.tryAcquire("a", T0 + 12 * SECOND)).isZero();
+    }
+
+    @Test
+    void leastRecentlyUsedBucketIsEvictedAboveMaxKeys() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 2, 900, 1);
+
+        limiter.tryAcquire("a", T0);
+        limiter.tryAcquire("b", T0);
+        // a 를 다시 사용하여 b 가 가장 오래 사용되지 않은 버킷이 됨
+        assertThat(limiter.tryAcquire("a", T0)).isPositive();
+
+        limiter.tryAcquire("c", T0);
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("a", T0)).isPositive();
+        assertThat(limiter.tryAcquire("b", T0)).isZero();
+    }
+}